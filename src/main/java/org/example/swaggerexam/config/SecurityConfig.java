@@ -9,8 +9,7 @@ import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import lombok.RequiredArgsConstructor;
 import org.example.swaggerexam.jwt.exception.CustomAuthenticationEntryPoint;
 import org.example.swaggerexam.jwt.filter.JwtAuthorizationFilter;
-import org.example.swaggerexam.jwt.service.CustomUserDetailsService;
-import org.example.swaggerexam.jwt.utill.JwtUtil;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -45,8 +44,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtUtil jwtUtil;
-    private final CustomUserDetailsService UserDetailsService;
+    private final JwtAuthorizationFilter jwtAuthorizationFilter;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
 
@@ -66,7 +64,7 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(configurationSource()))
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .addFilterBefore(new JwtAuthorizationFilter(jwtUtil, UserDetailsService), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(jwtAuthorizationFilter, UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint(customAuthenticationEntryPoint));
 
@@ -74,6 +72,15 @@ public class SecurityConfig {
     }
 
 
+    // JwtAuthorizationFilter 는 @Component 라서 서블릿 필터로도 자동 등록된다.
+    // 시큐리티 체인에서만 동작하도록 막아서 요청당 토큰 검증/사용자 조회가 한 번만 일어나게 한다.
+    @Bean
+    public FilterRegistrationBean<JwtAuthorizationFilter> jwtAuthorizationFilterRegistration(JwtAuthorizationFilter filter) {
+        FilterRegistrationBean<JwtAuthorizationFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -5,18 +5,25 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.swaggerexam.dto.*;
 import org.example.swaggerexam.exception.type.BadRequestException;
 import org.example.swaggerexam.exception.type.ForbiddenException;
+import org.example.swaggerexam.exception.type.ServiceUnavailableException;
+import org.example.swaggerexam.service.LoginRateLimiter;
 import org.example.swaggerexam.service.UserService;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @RestController
 @RequestMapping("/api/auth")
 @Tag(name = "Authentication", description = "인증 관련 API")
@@ -25,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final UserService userService;
+    private final LoginRateLimiter loginRateLimiter;
 
 
     @Operation(
@@ -37,36 +45,28 @@ public class AuthController {
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "403", description = "권한 없음"),
-            @ApiResponse(responseCode = "500", description = "서버 오류")
+            @ApiResponse(responseCode = "429", description = "요청 과다 (계정/주소별 제한)"),
+            @ApiResponse(responseCode = "500", description = "서버 오류"),
+            @ApiResponse(responseCode = "503", description = "요청 과다 (Retry-After 이후 재시도)")
     })
     @PostMapping("/register")
-    public ResponseEntity<ApiResponseDto<String>> register(
+    public CompletableFuture<ResponseEntity<ApiResponseDto<String>>> register(
             @Valid @RequestBody @Parameter(description = "사용자 생성 요청 데이터")
-            RegisterRequestDto registerRequestDto) {
-
-        try {
-            // 회원가입
-            String register = userService.register(registerRequestDto);
-
+            RegisterRequestDto registerRequestDto,
+            HttpServletRequest request) {
 
-            return ResponseEntity.ok(ApiResponseDto.success("Register_successfully", register));
+        // DB 조회나 BCrypt 해싱 전에 요청 제한부터 확인
+        if (!loginRateLimiter.tryAcquire(registerRequestDto.getEmail(), request.getRemoteAddr())) {
+            return CompletableFuture.completedFuture(tooManyRequests());
+        }
 
-        } catch (IllegalArgumentException e) {
-            log.error("Invalid token: ", e); // 401
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(ApiResponseDto.error("INVALID_TOKEN", e.getMessage()));
-        } catch (ForbiddenException e) {
-            log.error("Permission denied: ", e); // 403
-            return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                    .body(ApiResponseDto.error("PERMISSION_DENIED", e.getMessage()));
-        } catch (BadRequestException e) {
-            log.error("Bad request: ", e); // 400
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponseDto.error("BAD_REQUEST", e.getMessage()));
+        try {
+            // 회원가입 (BCrypt 해싱은 별도 풀에서 수행, 요청 스레드는 바로 반환)
+            return userService.register(registerRequestDto)
+                    .thenApply(register -> ResponseEntity.ok(ApiResponseDto.success("Register_successfully", register)))
+                    .exceptionally(this::handleError);
         } catch (Exception e) {
-            log.error("Internal server error: ", e); // 500
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponseDto.error("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
+            return CompletableFuture.completedFuture(handleError(e));
         }
 
     }
@@ -80,19 +80,58 @@ public class AuthController {
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "403", description = "권한 없음"),
-            @ApiResponse(responseCode = "500", description = "서버 오류")
+            @ApiResponse(responseCode = "429", description = "요청 과다 (계정/주소별 제한)"),
+            @ApiResponse(responseCode = "500", description = "서버 오류"),
+            @ApiResponse(responseCode = "503", description = "요청 과다 (Retry-After 이후 재시도)")
     })
     @PostMapping("/login")
-    public ResponseEntity<ApiResponseDto<LoginResponseDto>> login(
+    public CompletableFuture<ResponseEntity<ApiResponseDto<LoginResponseDto>>> login(
             @Valid @RequestBody @Parameter(description = "로그인 생성 요청 데이터")
-            LoginRequestDto loginRequestDto) {
+            LoginRequestDto loginRequestDto,
+            @Parameter(hidden = true)
+            @RequestHeader(value = "User-Agent", required = false) String userAgent,
+            HttpServletRequest request) {
+
+        // DB 조회나 BCrypt 해싱 전에 요청 제한부터 확인
+        if (!loginRateLimiter.tryAcquire(loginRequestDto.getEmail(), request.getRemoteAddr())) {
+            return CompletableFuture.completedFuture(tooManyRequests());
+        }
 
         try {
-            // 로그인이 수행될때 할일 구현
-            LoginResponseDto response = userService.login(loginRequestDto);
+            // 로그인이 수행될때 할일 구현 (기기별로 REFRESH 세션 생성)
+            return userService.login(loginRequestDto, userAgent)
+                    .thenApply(response -> ResponseEntity.ok(ApiResponseDto.success("Login successfully", response)))
+                    .exceptionally(this::handleError);
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(handleError(e));
+        }
 
-            return ResponseEntity.ok(ApiResponseDto.success("Login successfully", response));
 
+    }
+
+    @Operation(summary = "사용자 로그아웃", description = "사용자 로그아웃합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponseDto<String>> logout(
+            @Parameter(description = "JWT 인증 토큰", required = true, example = "Bearer exjflfsgkgl...")
+            @RequestHeader(value = "Authorization") String accessToken,
+            @RequestParam(value = "refreshToken", required = false)
+            String refreshToken
+    ) {
+        try {
+            if (accessToken.startsWith("Bearer ")) {
+                accessToken = accessToken.substring(7); // "Bearer " 제거
+            }
+
+            String result = userService.logout(accessToken, refreshToken);
+
+            return ResponseEntity.ok(ApiResponseDto.success("Logged out successfully", result));
         } catch (IllegalArgumentException e) {
             log.error("Invalid token: ", e);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -111,10 +150,9 @@ public class AuthController {
                     .body(ApiResponseDto.error("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
         }
 
-
     }
 
-    @Operation(summary = "사용자 로그아웃", description = "사용자 로그아웃합니다.")
+    @Operation(summary = "토큰 재발급", description = "REFRESH 토큰으로 ACCESS 토큰을 재발급하고 REFRESH 토큰을 교체합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
@@ -122,21 +160,14 @@ public class AuthController {
             @ApiResponse(responseCode = "403", description = "권한 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    @PostMapping("/logout")
-    public ResponseEntity<ApiResponseDto<String>> logout(
-            @Parameter(description = "JWT 인증 토큰", required = true, example = "Bearer exjflfsgkgl...")
-            @RequestHeader(value = "Authorization") String accessToken,
-            @RequestParam(value = "refreshToken", required = false)
-            String refreshToken
-    ) {
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponseDto<LoginResponseDto>> refresh(
+            @Parameter(description = "REFRESH 토큰", required = true)
+            @RequestParam(value = "refreshToken") String refreshToken) {
         try {
-            if (accessToken.startsWith("Bearer ")) {
-                accessToken = accessToken.substring(7); // "Bearer " 제거
-            }
+            LoginResponseDto response = userService.refreshAccessToken(refreshToken);
 
-            String result = userService.logout(accessToken, refreshToken);
-
-            return ResponseEntity.ok(ApiResponseDto.success("Logged out successfully", result));
+            return ResponseEntity.ok(ApiResponseDto.success("Token refreshed successfully", response));
         } catch (IllegalArgumentException e) {
             log.error("Invalid token: ", e);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -154,7 +185,6 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponseDto.error("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
         }
-
     }
 
     @Operation(summary = "사용자 목록 조회", description = "사용자 목록을 페이지 단위로 조회합니다.")
@@ -232,4 +262,40 @@ public class AuthController {
     }
 
 
+    private <T> ResponseEntity<ApiResponseDto<T>> tooManyRequests() {
+        log.warn("Too many login/register attempts"); // 429
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(loginRateLimiter.retryAfterSeconds()))
+                .body(ApiResponseDto.error("TOO_MANY_REQUESTS", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."));
+    }
+
+    // 비동기(CompletableFuture) 응답용 예외 처리 - 다른 API 의 catch 블록과 같은 규칙으로 응답
+    private <T> ResponseEntity<ApiResponseDto<T>> handleError(Throwable throwable) {
+        Throwable e = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+
+        if (e instanceof ServiceUnavailableException unavailable) {
+            log.warn("Service unavailable: {}", e.getMessage()); // 503
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(unavailable.getRetryAfterSeconds()))
+                    .body(ApiResponseDto.error("SERVICE_UNAVAILABLE", e.getMessage()));
+        } else if (e instanceof IllegalArgumentException) {
+            log.error("Invalid token: ", e); // 401
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponseDto.error("INVALID_TOKEN", e.getMessage()));
+        } else if (e instanceof ForbiddenException) {
+            log.error("Permission denied: ", e); // 403
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(ApiResponseDto.error("PERMISSION_DENIED", e.getMessage()));
+        } else if (e instanceof BadRequestException) {
+            log.error("Bad request: ", e); // 400
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponseDto.error("BAD_REQUEST", e.getMessage()));
+        }
+        log.error("Internal server error: ", e); // 500
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponseDto.error("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
+    }
+
+
 }
@@ -0,0 +1,156 @@
+package org.example.swaggerexam.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.swaggerexam.dto.ApiResponseDto;
+import org.example.swaggerexam.exception.type.NotFoundException;
+import org.example.swaggerexam.jwt.dto.CustomUserDetails;
+import org.example.swaggerexam.service.CalendarChangeTracker;
+import org.example.swaggerexam.service.CalendarService;
+import org.example.swaggerexam.util.ETags;
+import org.example.swaggerexam.util.LoginUsers;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@Tag(name = "Calendar", description = "일정 캘린더(ICS) 구독 API")
+@RequestMapping("/api")
+public class CalendarController {
+
+    // 응답 헤더로 내려주는 동기화 토큰. 다음 요청에 since 로 넘기면 그 이후 바뀐 일정만 받는다
+    private static final String SYNC_TOKEN_HEADER = "X-Calendar-Sync-Token";
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
+    private final CalendarService calendarService;
+    private final CalendarChangeTracker calendarChangeTracker;
+
+    @Operation(summary = "모임 일정 캘린더", description = "모임의 일정을 iCalendar 로 내려받습니다. ETag(If-None-Match) 를 지원하고, " +
+            "since 에 X-Calendar-Sync-Token 값을 주면 그 이후 바뀐 일정만(삭제된 일정은 STATUS:CANCELLED) 돌려줍니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공 (text/calendar)"),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
+            @ApiResponse(responseCode = "404", description = "미팅 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping(value = "/meetings/{meetingId}/calendar.ics", produces = "text/calendar")
+    public ResponseEntity<?> meetingCalendar(
+            @PathVariable("meetingId") @Parameter(description = "미팅 ID")
+            Long meetingId,
+            @RequestParam(value = "since", required = false) @Parameter(description = "이전 응답의 X-Calendar-Sync-Token")
+            String since,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(hidden = true)
+            String ifNoneMatch) {
+
+        try {
+            String feed = CalendarChangeTracker.meetingFeed(meetingId);
+            // ETag / 토큰을 먼저 계산: 그 이후 커밋된 변경은 다음 동기화 때 다시 내려간다
+            String etag = calendarChangeTracker.etag(feed);
+            String token = calendarChangeTracker.syncToken(feed);
+            Map<Long, Boolean> changes = since == null ? null : calendarChangeTracker.changesSince(feed, since).orElse(null);
+
+            // 변경 기록이 없는 피드는 version 0 이라 없는(삭제된) 미팅과 구분되지 않으므로 304 전에 존재 확인
+            if (!calendarChangeTracker.isTracked(feed)) {
+                calendarService.checkMeeting(meetingId);
+            }
+
+            // 변경 없음: 기록이 있는 피드는 DB 조회 없이 304
+            if (ETags.matches(ifNoneMatch, etag) || (changes != null && changes.isEmpty())) {
+                return notModified(etag, token, CacheControl.noCache());
+            }
+
+            String name = calendarService.meetingTitle(meetingId);
+            StreamingResponseBody body = out -> calendarService.writeMeetingFeed(meetingId, name, changes, out);
+            return calendar(changes == null ? etag : null, token, CacheControl.noCache(), "meeting-" + meetingId + ".ics", body);
+        } catch (NotFoundException e) {
+            log.error("Not found: ", e);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponseDto.error("NOT_FOUND", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Internal server error: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponseDto.error("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
+        }
+    }
+
+    @Operation(summary = "내 일정 캘린더", description = "내가 참가한 일정을 iCalendar 로 내려받습니다. ETag(If-None-Match) 와 since(동기화 토큰) 를 지원합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공 (text/calendar)"),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping(value = "/me/calendar.ics", produces = "text/calendar")
+    public ResponseEntity<?> myCalendar(
+            @RequestParam(value = "since", required = false) @Parameter(description = "이전 응답의 X-Calendar-Sync-Token")
+            String since,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(hidden = true)
+            String ifNoneMatch,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser) {
+
+        try {
+            Long userId = LoginUsers.requireId(loginUser);
+            String feed = CalendarChangeTracker.userFeed(userId);
+            String etag = calendarChangeTracker.etag(feed);
+            String token = calendarChangeTracker.syncToken(feed);
+            Map<Long, Boolean> changes = since == null ? null : calendarChangeTracker.changesSince(feed, since).orElse(null);
+
+            if (ETags.matches(ifNoneMatch, etag) || (changes != null && changes.isEmpty())) {
+                return notModified(etag, token, CacheControl.noCache().cachePrivate());
+            }
+
+            StreamingResponseBody body = out -> calendarService.writeUserFeed(userId, changes, out);
+            return calendar(changes == null ? etag : null, token, CacheControl.noCache().cachePrivate(), "my-schedules.ics", body);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid token: ", e);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponseDto.error("INVALID_TOKEN", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Internal server error: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponseDto.error("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
+        }
+    }
+
+    private static ResponseEntity<?> notModified(String etag, String token, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .header(SYNC_TOKEN_HEADER, token)
+                .build();
+    }
+
+    // 증분 응답은 전체 피드와 본문이 다르므로 ETag 를 붙이지 않는다 (etag == null)
+    private static ResponseEntity<?> calendar(String etag, String token, CacheControl cacheControl,
+                                              String filename, StreamingResponseBody body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        return builder
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(cacheControl)
+                .header(SYNC_TOKEN_HEADER, token)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.swaggerexam.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.swaggerexam.dto.ApiResponseDto;
+import org.example.swaggerexam.dto.CursorPageDto;
+import org.example.swaggerexam.dto.MyMeetingResponseDto;
+import org.example.swaggerexam.dto.MyScheduleResponseDto;
+import org.example.swaggerexam.dto.ScheduleConflictDto;
+import org.example.swaggerexam.jwt.dto.CustomUserDetails;
+import org.example.swaggerexam.service.MeService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@Tag(name = "Me", description = "내 모임/일정 API")
+@RequestMapping("/api/me")
+public class MeController {
+
+    private final MeService meService;
+
+    @Operation(summary = "내 모임 목록", description = "내가 만들었거나 참가한 모임을 최근 순으로 커서 기반 페이지 조회합니다. role 로 생성자/참가자를 구분합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/meetings")
+    public ResponseEntity<ApiResponseDto<CursorPageDto<MyMeetingResponseDto>>> myMeetings(
+            @RequestParam(value = "cursor", required = false) @Parameter(description = "이전 페이지의 nextCursor")
+            Long cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "20") @Parameter(description = "페이지 크기 (최대 100)")
+            int size,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser) {
+
+        try {
+            CursorPageDto<MyMeetingResponseDto> result = meService.myMeetings(loginUser, cursor, size);
+            return ResponseEntity.ok(
+                    ApiResponseDto.success("MY_MEETING_LIST_SUCCESS", result)
+            );
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid token: ", e);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponseDto.error("INVALID_TOKEN", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Internal server error: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
+        }
+    }
+
+    @Operation(summary = "내 일정 목록", description = "내가 만들었거나 참가한 일정을 최근 순으로 커서 기반 페이지 조회합니다. role 로 생성자/참가자를 구분합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/schedules")
+    public ResponseEntity<ApiResponseDto<CursorPageDto<MyScheduleResponseDto>>> mySchedules(
+            @RequestParam(value = "cursor", required = false) @Parameter(description = "이전 페이지의 nextCursor")
+            Long cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "20") @Parameter(description = "페이지 크기 (최대 100)")
+            int size,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser) {
+
+        try {
+            CursorPageDto<MyScheduleResponseDto> result = meService.mySchedules(loginUser, cursor, size);
+            return ResponseEntity.ok(
+                    ApiResponseDto.success("MY_SCHEDULE_LIST_SUCCESS", result)
+            );
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid token: ", e);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponseDto.error("INVALID_TOKEN", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Internal server error: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
+        }
+    }
+
+    @Operation(summary = "내 일정 시간 겹침", description = "내가 참가한 일정 중 시간이 겹치는 일정 쌍과 겹치는 구간을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/conflicts")
+    public ResponseEntity<ApiResponseDto<List<ScheduleConflictDto>>> myConflicts(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser) {
+
+        try {
+            List<ScheduleConflictDto> result = meService.myConflicts(loginUser);
+            return ResponseEntity.ok(
+                    ApiResponseDto.success("MY_SCHEDULE_CONFLICT_SUCCESS", result)
+            );
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid token: ", e);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponseDto.error("INVALID_TOKEN", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Internal server error: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
+        }
+    }
+}
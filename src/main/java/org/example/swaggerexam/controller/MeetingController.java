@@ -1,26 +1,40 @@
 package org.example.swaggerexam.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.example.swaggerexam.domain.MeetingParticipant;
 import org.example.swaggerexam.dto.ApiResponseDto;
+import org.example.swaggerexam.dto.CursorPageDto;
 import org.example.swaggerexam.dto.MeetingParticipantResponseDto;
 import org.example.swaggerexam.dto.MeetingRequestDto;
 import org.example.swaggerexam.dto.MeetingResponseDto;
 import org.example.swaggerexam.exception.type.BadRequestException;
 import org.example.swaggerexam.exception.type.ForbiddenException;
+import org.example.swaggerexam.jwt.dto.CustomUserDetails;
+import org.example.swaggerexam.service.MeetingExportService;
+import org.example.swaggerexam.service.MeetingImportService;
+import org.example.swaggerexam.service.MeetingListCache;
 import org.example.swaggerexam.service.MeetingService;
+import org.example.swaggerexam.service.MeetingWaitlistService;
+import org.example.swaggerexam.util.PageSizes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.StringUtils;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -32,6 +46,11 @@ public class MeetingController {
 
 
     private final MeetingService meetingService;
+    private final MeetingWaitlistService meetingWaitlistService;
+    private final MeetingListCache meetingListCache;
+    private final MeetingImportService meetingImportService;
+    private final MeetingExportService meetingExportService;
+    private final ObjectMapper objectMapper;
 
 
     @Operation(summary = "모임 생성 ", description = "모임을 생성합니다.")
@@ -44,16 +63,14 @@ public class MeetingController {
     })
     @PostMapping
     public ResponseEntity<ApiResponseDto<MeetingResponseDto>> create(
-            @Parameter(description = "JWT 인증 토큰", required = true, example = "Bearer exjflfsgkgl...")
-            @RequestHeader(value = "Authorization") String accessToken,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser,
             @Valid @RequestBody @Parameter(description = "미팅 생성 요청 데이터")
             MeetingRequestDto meetingRequestDto) {
 
 
         try {
-
-            accessToken = extractToken(accessToken);
-            MeetingResponseDto add = meetingService.add(meetingRequestDto, accessToken);
+            MeetingResponseDto add = meetingService.add(meetingRequestDto, loginUser);
 
 
             return ResponseEntity.ok(
@@ -81,23 +98,81 @@ public class MeetingController {
 
     }
 
-    @Operation(summary = "모든 모임 목록 조회", description = "모든 모임 정보를 목록 조회합니다.")
+    @Operation(summary = "모임/참가자 일괄 등록", description = "NDJSON(application/x-ndjson) 또는 CSV(text/csv) 본문의 모임/참가자 행을 "
+            + "묶음 단위로 저장하고, 행별 결과를 NDJSON 으로 순서대로 스트리밍합니다. "
+            + "CSV 헤더: type,ref,name,description,maxParticipants,meeting,email")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공 (행별 결과 스트림)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"}, produces = "application/x-ndjson")
+    public ResponseEntity<?> importMeetings(
+            HttpServletRequest request,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser) {
+
+        if (loginUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponseDto.error("INVALID_TOKEN", "유효하지 않은 토큰입니다."));
+        }
+
+        try {
+            InputStream in = request.getInputStream();
+            boolean csv = request.getContentType() != null && request.getContentType().startsWith("text/csv");
+
+            // 본문 읽기/저장은 요청 스레드가 아닌 비동기 스트리밍 스레드에서 진행
+            StreamingResponseBody body = out -> meetingImportService.importStream(in, csv, loginUser, out);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                    .body(body);
+        } catch (Exception e) {
+            log.error("Internal server error: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponseDto.error("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
+        }
+    }
+
+    @Operation(summary = "모임 목록 조회", description = "모임 정보를 id 순으로 커서 기반 페이지 조회합니다. "
+            + "응답의 ETag 를 If-None-Match 로 보내면 변경이 없을 때 304 를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "403", description = "권한 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping
-    public ResponseEntity<ApiResponseDto<List<MeetingResponseDto>>> list() {
+    public ResponseEntity<?> list(
+            @RequestParam(value = "cursor", required = false) @Parameter(description = "이전 페이지의 nextCursor")
+            Long cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "20") @Parameter(description = "페이지 크기 (최대 100)")
+            int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(hidden = true)
+            String ifNoneMatch) {
         try {
-
-            List<MeetingResponseDto> list = meetingService.list();
-
-            return ResponseEntity.ok(
-                    ApiResponseDto.success("MEETING_LIST_SUCCESS", list)
-            );
+            int pageSize = PageSizes.normalize(size);
+            String etag = meetingListCache.etag(cursor, pageSize);
+
+            // 변경 없음: DB 조회 / 직렬화 없이 304
+            if (meetingListCache.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+
+            byte[] body = meetingListCache.get(etag);
+            if (body == null) {
+                CursorPageDto<MeetingResponseDto> list = meetingService.list(cursor, pageSize);
+                body = objectMapper.writeValueAsBytes(ApiResponseDto.success("MEETING_LIST_SUCCESS", list));
+                meetingListCache.put(etag, body);
+            }
+
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
         } catch (IllegalArgumentException e) {
             log.error("Invalid token: ", e);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -118,6 +193,36 @@ public class MeetingController {
 
     }
 
+    @Operation(summary = "모임 검색", description = "모임 제목/설명에서 검색어를 찾아 관련도 순으로 페이지 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponseDto<CursorPageDto<MeetingResponseDto>>> search(
+            @RequestParam(value = "q") @Parameter(description = "검색어")
+            String query,
+            @RequestParam(value = "cursor", required = false) @Parameter(description = "이전 페이지의 nextCursor")
+            Long cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "20") @Parameter(description = "페이지 크기 (최대 100)")
+            int size) {
+        try {
+            CursorPageDto<MeetingResponseDto> result = meetingService.search(query, cursor, size);
+            return ResponseEntity.ok(
+                    ApiResponseDto.success("MEETING_SEARCH_SUCCESS", result)
+            );
+        } catch (BadRequestException e) {
+            log.error("Bad request: ", e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponseDto.error("BAD_REQUEST", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Internal server error: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
+        }
+    }
+
     @Operation(summary = "모임 수정 ( 생성자만 가능 ) ", description = "생성자의 고유 ID를 이용하여 모임을 수정합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공"),
@@ -128,16 +233,15 @@ public class MeetingController {
     })
     @PutMapping("/{meetingId}")
     public ResponseEntity<ApiResponseDto<String>> modifyMeeting(
-            @Parameter(description = "JWT 인증 토큰", required = true, example = "Bearer exjflfsgkgl...")
-            @RequestHeader("Authorization") String accessToken,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser,
             @PathVariable(name = "meetingId") @Parameter(description = "미팅 ID")
             Long meetingId,
             @Valid @RequestBody @Parameter(description = "미팅 수정 요청 데이터")
             MeetingRequestDto meetingRequestDto
     ) {
         try {
-            String token = extractToken(accessToken);
-            String result = meetingService.modify(meetingRequestDto, meetingId, token);
+            String result = meetingService.modify(meetingRequestDto, meetingId, loginUser);
             return ResponseEntity.ok(
                     ApiResponseDto.success("MEETING_MODIFY_SUCCESS", result)
             );
@@ -173,12 +277,12 @@ public class MeetingController {
     public ResponseEntity<ApiResponseDto<String>> delete(
             @PathVariable(name = "meetingId") @Parameter(description = "미팅 ID")
             Long meetingId,
-            @Parameter(description = "JWT 인증 토큰", required = true, example = "Bearer exjflfsgkgl...")
-            @RequestHeader("Authorization") String accessToken) {
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser) {
 
 
         try {
-            String result = meetingService.delete(meetingId, accessToken);
+            String result = meetingService.delete(meetingId, loginUser);
 
             return ResponseEntity.ok(
                     ApiResponseDto.success("MEETING_DELETE_SUCCESS", result)
@@ -204,7 +308,7 @@ public class MeetingController {
 
     }
 
-    @Operation(summary = "특정 모임 참가 ", description = "특정 모임을 참가합니다.")
+    @Operation(summary = "특정 모임 참가 ", description = "특정 모임을 참가합니다. 정원이 찼으면 대기열에 등록되고 자리가 나면 순서대로 자동 참가됩니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
@@ -216,13 +320,11 @@ public class MeetingController {
     public ResponseEntity<ApiResponseDto<String>> joinMeeting(
             @PathVariable(name = "meetingId") @Parameter(description = "미팅 ID")
             Long meetingId,
-            @Parameter(description = "JWT 인증 토큰", required = true, example = "Bearer exjflfsgkgl...")
-            @RequestHeader("Authorization") String accessToken) {
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser) {
 
         try {
-
-            accessToken = extractToken(accessToken);
-            String result = meetingService.meetingJoin(meetingId, accessToken);
+            String result = meetingService.meetingJoin(meetingId, loginUser);
             return ResponseEntity.ok(
                     ApiResponseDto.success("MEETING_JOIN_SUCCESS", result)
             );
@@ -245,7 +347,42 @@ public class MeetingController {
         }
     }
 
-    @Operation(summary = "특정 모임 모든 참가자 목록 조회", description = "특정 모임 모든 참가자 목록 조회합니다.")
+    @Operation(summary = "특정 모임 참가 대기 취소", description = "특정 모임의 참가 대기열에서 빠집니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @DeleteMapping("/{meetingId}/waitlist")
+    public ResponseEntity<ApiResponseDto<String>> leaveWaitlist(
+            @PathVariable(name = "meetingId") @Parameter(description = "미팅 ID")
+            Long meetingId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser) {
+
+        try {
+            String result = meetingWaitlistService.leave(meetingId, loginUser);
+            return ResponseEntity.ok(
+                    ApiResponseDto.success("MEETING_WAITLIST_LEAVE_SUCCESS", result)
+            );
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid token: ", e);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponseDto.error("INVALID_TOKEN", e.getMessage()));
+        } catch (IllegalStateException e) {
+            log.error("Bad request: ", e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponseDto.error("BAD_REQUEST", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Internal server error: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
+        }
+    }
+
+    @Operation(summary = "특정 모임 참가자 목록 조회", description = "특정 모임 참가자 목록을 참가 순서대로 커서 기반 페이지 조회합니다. 상태/역할로 필터링할 수 있습니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
@@ -254,13 +391,21 @@ public class MeetingController {
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/{meetingId}/participants")
-    public ResponseEntity<ApiResponseDto<List<MeetingParticipantResponseDto>>> getParticipants(
+    public ResponseEntity<ApiResponseDto<CursorPageDto<MeetingParticipantResponseDto>>> getParticipants(
             @PathVariable("meetingId") @Parameter(description = "미팅 ID")
-            Long meetingId) {
+            Long meetingId,
+            @RequestParam(value = "cursor", required = false) @Parameter(description = "이전 페이지의 nextCursor")
+            String cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "20") @Parameter(description = "페이지 크기 (최대 100)")
+            int size,
+            @RequestParam(value = "status", required = false) @Parameter(description = "참석 상태 필터")
+            MeetingParticipant.Status status,
+            @RequestParam(value = "role", required = false) @Parameter(description = "역할 필터")
+            MeetingParticipant.Role role) {
 
         try {
-            List<MeetingParticipantResponseDto> participants =
-                    meetingService.getParticipants(meetingId);
+            CursorPageDto<MeetingParticipantResponseDto> participants =
+                    meetingService.getParticipants(meetingId, cursor, size, status, role);
             return ResponseEntity.ok(
                     ApiResponseDto.success("MEETINGPARTICIPANT_LIST_SUCCESS", participants)
             );
@@ -283,6 +428,46 @@ public class MeetingController {
         }
     }
 
+    @Operation(summary = "특정 모임 참가자 내보내기 (생성자만 가능)", description = "특정 모임의 모든 참가자를 참가 순서대로 한 줄에 하나씩 NDJSON 으로 내려받습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공 (NDJSON 스트림)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping(value = "/{meetingId}/participants/export", produces = "application/x-ndjson")
+    public ResponseEntity<?> exportParticipants(
+            @PathVariable("meetingId") @Parameter(description = "미팅 ID")
+            Long meetingId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser) {
+
+        try {
+            meetingExportService.checkOwner(meetingId, loginUser);
+
+            StreamingResponseBody body = out -> meetingExportService.exportParticipants(meetingId, out);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"meeting-" + meetingId + "-participants.ndjson\"")
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid token: ", e);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponseDto.error("INVALID_TOKEN", e.getMessage()));
+        } catch (ForbiddenException e) {
+            log.error("Permission denied: ", e);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponseDto.error("PERMISSION_DENIED", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Internal server error: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponseDto.error("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
+        }
+    }
+
     @Operation(summary = "특정 모임 참가자 참가 취소 ", description = "특정 모임 참가자 참가 취소합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공"),
@@ -295,14 +480,12 @@ public class MeetingController {
     public ResponseEntity<?> deleteParticipant(
             @PathVariable(name = "participantId") @Parameter(description = "미팅 참가자 ID")
             Long participantId,
-            @Parameter(description = "JWT 인증 토큰", required = true, example = "Bearer exjflfsgkgl...")
-            @RequestHeader("Authorization") String accessToken) {
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser) {
 
 
         try {
-
-            accessToken = extractToken(accessToken);
-            String result = meetingService.deleteParticipants(participantId, accessToken);
+            String result = meetingService.deleteParticipants(participantId, loginUser);
             return ResponseEntity.ok(
                     ApiResponseDto.success("MEETINGPARTICIPANT_DELETE_SUCCESS", result)
             );
@@ -326,12 +509,4 @@ public class MeetingController {
     }
 
 
-    private String extractToken(String header) {
-        if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
-            return header.substring(7);
-        }
-        throw new IllegalArgumentException("Invalid token format");
-    }
-
-
 }
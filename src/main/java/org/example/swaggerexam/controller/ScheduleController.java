@@ -9,17 +9,25 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.swaggerexam.dto.ApiResponseDto;
+import org.example.swaggerexam.dto.CursorPageDto;
 import org.example.swaggerexam.dto.ScheduleParticipantResponseDto;
 import org.example.swaggerexam.dto.ScheduleRequestDto;
 import org.example.swaggerexam.dto.ScheduleResponseDto;
 import org.example.swaggerexam.exception.type.BadRequestException;
 import org.example.swaggerexam.exception.type.ForbiddenException;
+import org.example.swaggerexam.jwt.dto.CustomUserDetails;
+import org.example.swaggerexam.service.MeetingExportService;
 import org.example.swaggerexam.service.ScheduleService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.StringUtils;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 @RestController
@@ -30,6 +38,7 @@ import java.util.List;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final MeetingExportService meetingExportService;
 
     // 일정 생성
     @ApiResponses(value = {
@@ -42,8 +51,8 @@ public class ScheduleController {
     @Operation(summary = "일정 생성 ", description = "일정 생성합니다.")
     @PostMapping
     public ResponseEntity<ApiResponseDto<String>> schedulesAdd(
-            @Parameter(description = "JWT 인증 토큰", required = true, example = "Bearer exjflfsgkgl...")
-            @RequestHeader("Authorization") String accessToken,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser,
             @PathVariable(name = "meetingId") @Parameter(description = "미팅 ID")
             Long meetingId,
             @Valid @RequestBody @Parameter(description = "일정 생성 요청 데이터")
@@ -52,8 +61,7 @@ public class ScheduleController {
 
 
         try {
-            accessToken = extractToken(accessToken);
-            String schedule = scheduleService.createSchedule(requestDto, meetingId, accessToken);
+            String schedule = scheduleService.createSchedule(requestDto, meetingId, loginUser);
             return ResponseEntity.ok(
                     ApiResponseDto.success("SCHEDULE_CREATE_SUCCESS", schedule)
             );
@@ -87,8 +95,8 @@ public class ScheduleController {
     @Operation(summary = "일정 수정 ( 생성자만 가능 )", description = "일정 수정합니다.")
     @PutMapping("/{scheduleId}")
     public ResponseEntity<ApiResponseDto<String>> schedulesUpdate(
-            @Parameter(description = "JWT 인증 토큰", required = true, example = "Bearer exjflfsgkgl...")
-            @RequestHeader("Authorization") String accessToken,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser,
             @PathVariable(name = "meetingId") @Parameter(description = "미팅 ID")
             Long meetingId,
             @PathVariable(name = "scheduleId") @Parameter(description = "스케줄 ID")
@@ -99,8 +107,7 @@ public class ScheduleController {
 
 
         try {
-            accessToken = extractToken(accessToken);
-            String schedule = scheduleService.upadteSchedule(requestDto, meetingId, scheduleId, accessToken);
+            String schedule = scheduleService.upadteSchedule(requestDto, meetingId, scheduleId, loginUser);
             return ResponseEntity.ok(
                     ApiResponseDto.success("SCHEDULE_CREATE_SUCCESS", schedule)
             );
@@ -134,8 +141,8 @@ public class ScheduleController {
     @Operation(summary = "일정 삭제 ( 생성자만 가능 )", description = "일정 삭제합니다.")
     @DeleteMapping("/{scheduleId}/delete")
     public ResponseEntity<ApiResponseDto<String>> schedulesDelete(
-            @Parameter(description = "JWT 인증 토큰", required = true, example = "Bearer exjflfsgkgl...")
-            @RequestHeader("Authorization") String accessToken,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser,
             @PathVariable(name = "meetingId") @Parameter(description = "미팅 ID")
             Long meetingId,
             @PathVariable(name = "scheduleId") @Parameter(description = "스케줄 ID")
@@ -144,9 +151,7 @@ public class ScheduleController {
 
 
         try {
-
-            accessToken = extractToken(accessToken);
-            String result = scheduleService.deleteSchedule(meetingId, scheduleId, accessToken);
+            String result = scheduleService.deleteSchedule(meetingId, scheduleId, loginUser);
             return ResponseEntity.ok(
                     ApiResponseDto.success("SCHEDULE_DELETE_SUCCESS", result)
             );
@@ -181,14 +186,30 @@ public class ScheduleController {
             @ApiResponse(responseCode = "403", description = "권한 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    @Operation(summary = "일정 목록 조회 ", description = "일정 목록 조회합니다.")
+    @Operation(summary = "일정 목록 조회 ", description = "일정 목록을 커서 기반 페이지로 조회합니다. from/to 를 주면 [from, to) 기간에 시작하는 일정만 시작 시각 순으로 조회합니다. " +
+            "includeParticipants=false 면 참가자 목록 없이 참가자 수만 돌려줍니다.")
     @GetMapping
-    public ResponseEntity<ApiResponseDto<List<ScheduleResponseDto>>> getSchedules(
+    public ResponseEntity<ApiResponseDto<CursorPageDto<ScheduleResponseDto>>> getSchedules(
             @PathVariable(name = "meetingId") @Parameter(description = "미팅 ID")
-            Long meetingId) {
+            Long meetingId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "기간 시작 (ISO-8601, 예: 2025-03-01T00:00:00+09:00)")
+            OffsetDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "기간 끝 (미포함)")
+            OffsetDateTime to,
+            @RequestParam(value = "cursor", required = false) @Parameter(description = "이전 페이지의 nextCursor")
+            String cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "20") @Parameter(description = "페이지 크기 (최대 100)")
+            int size,
+            @RequestParam(value = "includeParticipants", required = false, defaultValue = "true")
+            @Parameter(description = "참가자 목록 포함 여부 (false 면 참가자 수만)")
+            boolean includeParticipants) {
 
         try {
-            List<ScheduleResponseDto> schedules = scheduleService.list(meetingId);
+            CursorPageDto<ScheduleResponseDto> schedules = scheduleService.list(meetingId,
+                    from == null ? null : from.toInstant(), to == null ? null : to.toInstant(),
+                    cursor, size, includeParticipants);
             return ResponseEntity.ok(
                     ApiResponseDto.success("SCHEDULE_LIST_SUCCESS", schedules)
             );
@@ -220,22 +241,23 @@ public class ScheduleController {
             @ApiResponse(responseCode = "403", description = "권한 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    @Operation(summary = "일정 참가 ", description = "일정 참가합니다.")
+    @Operation(summary = "일정 참가 ", description = "일정 참가합니다. checkConflict=true 면 이미 참가한 일정과 시간이 겹칠 때 400 으로 거절합니다.")
     @PostMapping("/{scheduleId}/join")
     public ResponseEntity<ApiResponseDto<String>> schedulesJoin(
-            @Parameter(description = "JWT 인증 토큰", required = true, example = "Bearer exjflfsgkgl...")
-            @RequestHeader("Authorization") String accessToken,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser,
             @PathVariable(name = "meetingId") @Parameter(description = "미팅 ID")
             Long meetingId,
             @PathVariable(name = "scheduleId") @Parameter(description = "스케줄 ID")
-            Long scheduleId
+            Long scheduleId,
+            @RequestParam(value = "checkConflict", required = false, defaultValue = "false")
+            @Parameter(description = "참가한 다른 일정과 시간 겹침 검사 여부")
+            boolean checkConflict
     ) {
 
 
         try {
-
-            accessToken = extractToken(accessToken);
-            String result = scheduleService.scheduleJoin(meetingId, scheduleId, accessToken);
+            String result = scheduleService.scheduleJoin(meetingId, scheduleId, checkConflict, loginUser);
             return ResponseEntity.ok(
                     ApiResponseDto.success("SCHEDULE_LIST_SUCCESS", result)
             );
@@ -270,8 +292,8 @@ public class ScheduleController {
     @Operation(summary = "일정 참가자 탈퇴 ", description = "일정 참가자 탈퇴합니다.")
     @DeleteMapping("/{scheduleId}/leave")
     public ResponseEntity<ApiResponseDto<String>> schedulesLeave(
-            @Parameter(description = "JWT 인증 토큰", required = true, example = "Bearer exjflfsgkgl...")
-            @RequestHeader("Authorization") String accessToken,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser,
             @PathVariable(name = "meetingId") @Parameter(description = "미팅 ID")
             Long meetingId,
             @PathVariable(name = "scheduleId") @Parameter(description = "스케줄 ID")
@@ -280,9 +302,7 @@ public class ScheduleController {
 
 
         try {
-
-            accessToken = extractToken(accessToken);
-            String result = scheduleService.leaveSchedule(meetingId, scheduleId, accessToken);
+            String result = scheduleService.leaveSchedule(meetingId, scheduleId, loginUser);
             return ResponseEntity.ok(
                     ApiResponseDto.success("SCHEDULEPARTICIPANT_DELETE_SUCCESS", result)
             );
@@ -309,6 +329,46 @@ public class ScheduleController {
     }
 
 
+    @Operation(summary = "모임 일정 내보내기 (생성자만 가능)", description = "모임의 모든 일정과 참가자를 (일정 x 참가자) 한 줄에 하나씩 NDJSON 으로 내려받습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공 (NDJSON 스트림)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<?> exportSchedules(
+            @PathVariable("meetingId") @Parameter(description = "미팅 ID")
+            Long meetingId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails loginUser) {
+
+        try {
+            meetingExportService.checkOwner(meetingId, loginUser);
+
+            StreamingResponseBody body = out -> meetingExportService.exportSchedules(meetingId, out);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"meeting-" + meetingId + "-schedules.ndjson\"")
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid token: ", e);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponseDto.error("INVALID_TOKEN", e.getMessage()));
+        } catch (ForbiddenException e) {
+            log.error("Permission denied: ", e);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponseDto.error("PERMISSION_DENIED", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Internal server error: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponseDto.error("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
+        }
+    }
+
     // 특정 일정 참가자 목록 조회
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공"),
@@ -351,12 +411,4 @@ public class ScheduleController {
     }
 
 
-    private String extractToken(String header) {
-        if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
-            return header.substring(7);
-        }
-        throw new IllegalArgumentException("Invalid token format");
-    }
-
-
 }
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -14,19 +16,28 @@ import java.util.Set;
 
 @Entity
 @Table(name = "meetings")
+@DynamicUpdate // 변경된 컬럼만 UPDATE (max_participants 는 조건부 UPDATE 로 따로 변경)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 public class Meeting {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // id 를 50개 단위로 미리 할당받아 INSERT 를 JDBC 배치로 묶을 수 있게 함 (IDENTITY 는 배치 불가)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "meetings_id")
+    @TableGenerator(name = "meetings_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "meetings", allocationSize = 50)
     private Long id;
     private String title;
     private String description;
     private Integer maxParticipants;
     private LocalDateTime createdAt;
 
+    // 현재 참가자 수 (비정규화). 엔티티 flush 로는 바뀌지 않고 MeetingRepository 의 조건부 UPDATE 로만 변경된다
+    @ColumnDefault("0")
+    @Column(name = "participant_count", nullable = false, insertable = false, updatable = false)
+    private Integer participantCount = 0;
+
 
     // 미팅을 만든 유저 (OWNER)
     @ManyToOne(fetch = FetchType.LAZY)
@@ -49,6 +60,10 @@ public class Meeting {
     @OneToMany(mappedBy = "meeting", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<MeetingParticipant> meetingParticipants = new HashSet<>();
 
+    // 미팅 참가 대기열
+    @OneToMany(mappedBy = "meeting", cascade = CascadeType.ALL, orphanRemoval = true)
+    private Set<MeetingWaitlist> waitlist = new HashSet<>();
+
 
 
     @PrePersist
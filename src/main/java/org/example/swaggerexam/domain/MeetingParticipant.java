@@ -8,7 +8,13 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "meeting_participants")
+@Table(name = "meeting_participants",
+        uniqueConstraints = @UniqueConstraint(name = "uk_meeting_participants_meeting_user",
+                columnNames = {"meeting_id", "user_id"}),
+        indexes = {
+                @Index(name = "idx_meeting_participants_meeting_created", columnList = "meeting_id, created_at, id"),
+                @Index(name = "idx_meeting_participants_user_meeting", columnList = "user_id, meeting_id")
+        })
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -24,7 +30,9 @@ public class MeetingParticipant {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "meeting_participants_id")
+    @TableGenerator(name = "meeting_participants_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "meeting_participants", allocationSize = 50)
     private Long id;
     
     // 참여자 목록
@@ -50,7 +58,7 @@ public class MeetingParticipant {
 
     // 생성 시간
     @CreationTimestamp
-    @Column(nullable = false, updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
 
@@ -0,0 +1,42 @@
+package org.example.swaggerexam.domain;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 정원이 찬 미팅의 참가 대기열 (id 순서 = 대기 순서)
+@Entity
+@Table(name = "meeting_waitlists",
+        uniqueConstraints = @UniqueConstraint(name = "uk_meeting_waitlists_meeting_user",
+                columnNames = {"meeting_id", "user_id"}),
+        indexes = @Index(name = "idx_meeting_waitlists_meeting_id", columnList = "meeting_id, id"))
+@NoArgsConstructor
+@Getter
+public class MeetingWaitlist {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "meeting_id", nullable = false)
+    private Meeting meeting;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public MeetingWaitlist(Meeting meeting, User user) {
+        this.meeting = meeting;
+        this.user = user;
+    }
+}
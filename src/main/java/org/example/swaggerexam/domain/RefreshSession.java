@@ -0,0 +1,53 @@
+package org.example.swaggerexam.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 로그인 세션 (기기별 REFRESH 토큰). 토큰 원문 대신 고정 길이 해시로 조회한다.
+@Entity
+@Table(name = "refresh_sessions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_session_token_hash", columnNames = "token_hash"),
+        indexes = {
+                @Index(name = "idx_refresh_session_user", columnList = "user_id"),
+                @Index(name = "idx_refresh_session_expires_at", columnList = "expires_at")
+        })
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class RefreshSession {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // REFRESH 토큰의 SHA-256 (hex 64자)
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    // 로그인한 기기 (User-Agent)
+    @Column(name = "device_name")
+    private String deviceName;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public RefreshSession(User user, String tokenHash, String deviceName, LocalDateTime expiresAt) {
+        this.user = user;
+        this.tokenHash = tokenHash;
+        this.deviceName = deviceName;
+        this.expiresAt = expiresAt;
+    }
+}
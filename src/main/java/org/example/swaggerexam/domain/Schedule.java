@@ -6,8 +6,11 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -17,14 +20,18 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "schedules")
+@DynamicUpdate
+@Table(name = "schedules",
+        indexes = @Index(name = "idx_schedules_meeting_start", columnList = "meeting_id, start_at"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter@Setter
 public class Schedule {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "schedules_id")
+    @TableGenerator(name = "schedules_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "schedules", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -40,6 +47,25 @@ public class Schedule {
     @Column(nullable = false)
     private String location;
 
+    // 시작/종료 시각 (instant) + 입력 시간대. date/time 문자열은 기존 클라이언트 호환용으로 같은 값을 함께 저장
+    @Column(name = "start_at")
+    private Instant startAt;
+
+    @Column(name = "end_at")
+    private Instant endAt;
+
+    @Column(name = "time_zone", length = 64)
+    private String timeZone;
+
+    // 일정 정원 (null 이면 미팅 최대 인원). 생성 이후 변경은 ScheduleRepository.updateCapacity 로만
+    @Column(name = "capacity")
+    private Integer capacity;
+
+    // 현재 참가자 수 (비정규화). 엔티티 flush 로는 바뀌지 않고 ScheduleRepository 의 조건부 UPDATE 로만 변경된다
+    @ColumnDefault("0")
+    @Column(name = "attendee_count", nullable = false, insertable = false, updatable = false)
+    private Integer attendeeCount = 0;
+
     private LocalDateTime createdAt;
 
 
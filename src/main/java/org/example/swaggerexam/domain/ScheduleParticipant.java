@@ -6,14 +6,19 @@ import lombok.*;
 import org.example.swaggerexam.dto.ScheduleParticipantResponseDto;
 
 @Entity
-@Table(name = "schedule_participants")
+@Table(name = "schedule_participants",
+        uniqueConstraints = @UniqueConstraint(name = "uk_schedule_participants_schedule_user",
+                columnNames = {"schedule_id", "user_id"}),
+        indexes = @Index(name = "idx_schedule_participants_user_schedule", columnList = "user_id, schedule_id"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 public class ScheduleParticipant {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "schedule_participants_id")
+    @TableGenerator(name = "schedule_participants_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "schedule_participants", allocationSize = 50)
     private Long id;
 
     @ManyToOne
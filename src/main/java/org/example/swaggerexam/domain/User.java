@@ -5,19 +5,23 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.example.swaggerexam.jwt.service.UserPrincipalCacheListener;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserPrincipalCacheListener.class)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "users", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -26,7 +30,9 @@ public class User {
     @Column(nullable = false)
     private String password;
 
-    private String refreshToken;
+    // 영속성 컨텍스트로 읽어 온 시점의 이메일 (이메일 변경 시 이전 인증 캐시 키를 지우기 위함, 저장되지 않음)
+    @Transient
+    private String loadedEmail;
 
     // 사용자가 주최한 미팅 목록 (OneToMany 관계)
     @OneToMany(mappedBy = "owner", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -48,6 +54,10 @@ public class User {
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<MeetingParticipant> meetingParticipants = new HashSet<>();
 
+    // 사용자가 대기 중인 미팅 대기열
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    private Set<MeetingWaitlist> waitlist = new HashSet<>();
+
     // 사용자가 참가한 스케줄 참가자 목록 (OneToMany 관계)
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ScheduleParticipant> scheduleParticipants = new HashSet<>();
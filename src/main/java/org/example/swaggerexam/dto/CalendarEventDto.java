@@ -0,0 +1,21 @@
+package org.example.swaggerexam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// iCalendar VEVENT 한 건 (JPQL 프로젝션)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarEventDto {
+
+    private Long scheduleId;
+    private String title;
+    private String location;
+    private Instant startAt;
+    private Instant endAt;
+    private String meetingTitle;
+}
@@ -0,0 +1,33 @@
+package org.example.swaggerexam.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "커서 기반 페이지 응답 DTO")
+public class CursorPageDto<T> {
+
+    private List<T> items;
+
+    @Schema(description = "다음 페이지 요청 시 cursor 로 넘길 값 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    // size + 1 건을 조회한 결과로 페이지 구성 (한 건 더 있으면 다음 페이지가 있음)
+    public static <T> CursorPageDto<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> items = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPageDto<>(items, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.swaggerexam.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "모임 일괄 등록 행별 결과 (NDJSON 으로 한 줄씩 응답)")
+public class MeetingImportResultDto {
+
+    public static final String CREATED = "CREATED";
+    public static final String JOINED = "JOINED";
+    public static final String ERROR = "ERROR";
+
+    private long row;
+    private String status;
+
+    @Schema(description = "생성된 모임 ID 또는 참가자 ID")
+    private Long id;
+
+    private String message;
+
+    public static MeetingImportResultDto error(long row, String message) {
+        return new MeetingImportResultDto(row, ERROR, null, message);
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.swaggerexam.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@Schema(description = "모임 일괄 등록 입력 행 (NDJSON 한 줄 또는 CSV 한 행)")
+public class MeetingImportRowDto {
+
+    public static final String TYPE_MEETING = "meeting";
+    public static final String TYPE_PARTICIPANT = "participant";
+
+    @Schema(description = "행 종류: meeting 또는 participant")
+    private String type;
+
+    @Schema(description = "meeting 행: 같은 요청 안에서 참가자 행이 참조할 이름")
+    private String ref;
+
+    @Schema(description = "meeting 행: 모임 이름")
+    private String name;
+
+    @Schema(description = "meeting 행: 모임 설명")
+    private String description;
+
+    @Schema(description = "meeting 행: 최대 인원")
+    private Integer maxParticipants;
+
+    @Schema(description = "participant 행: 참가할 모임 (같은 요청의 ref 또는 내가 만든 기존 모임 ID)")
+    private String meeting;
+
+    @Schema(description = "participant 행: 참가자 이메일")
+    private String email;
+
+    // 입력 위치 (1부터, 헤더 제외)
+    @JsonIgnore
+    private long row;
+
+    // 파싱 단계에서 실패한 경우 사유
+    @JsonIgnore
+    private String error;
+}
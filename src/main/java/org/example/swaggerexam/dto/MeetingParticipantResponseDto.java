@@ -8,6 +8,8 @@ import org.example.swaggerexam.domain.Meeting;
 import org.example.swaggerexam.domain.MeetingParticipant;
 import org.example.swaggerexam.domain.User;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,6 +20,17 @@ public class MeetingParticipantResponseDto {
     private String email;
     private String status;
     private String role;
+    private LocalDateTime createdAt;
+
+    // JPQL 프로젝션용
+    public MeetingParticipantResponseDto(Long id, String email, MeetingParticipant.Status status,
+                                         MeetingParticipant.Role role, LocalDateTime createdAt) {
+        this.id = id;
+        this.email = email;
+        this.status = status.name();
+        this.role = role.name();
+        this.createdAt = createdAt;
+    }
 
     public static MeetingParticipantResponseDto fromEntity(MeetingParticipant participant) {
         User user = participant.getUser();
@@ -26,6 +39,7 @@ public class MeetingParticipantResponseDto {
                 .email(user.getEmail())
                 .status(participant.getStatus().name()) // enum 이름을 문자열로 변환
                 .role(participant.getRole().name())
+                .createdAt(participant.getCreatedAt())
                 .build();
     }
 
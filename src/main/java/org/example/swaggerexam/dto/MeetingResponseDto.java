@@ -21,14 +21,30 @@ public class MeetingResponseDto {
     private Integer currentParticipants;
     private String ownerName;
 
+    // JPQL 프로젝션용
+    public MeetingResponseDto(Long id, String name, String description, Integer maxParticipants,
+                              String ownerName, Integer currentParticipants) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.maxParticipants = maxParticipants;
+        this.ownerName = ownerName;
+        this.currentParticipants = currentParticipants;
+    }
+
     public static MeetingResponseDto convertToResponseDto(Meeting meeting) {
+        return convertToResponseDto(meeting, meeting.getOwner().getEmail());
+    }
+
+    // 소유자 이메일을 이미 알고 있을 때 (owner 지연 로딩 없이 변환)
+    public static MeetingResponseDto convertToResponseDto(Meeting meeting, String ownerEmail) {
         return MeetingResponseDto.builder()
                 .id(meeting.getId())
                 .name(meeting.getTitle())
                 .description(meeting.getDescription())
                 .maxParticipants(meeting.getMaxParticipants())
-                .ownerName(meeting.getOwner().getEmail())
-                .currentParticipants(meeting.getMeetingParticipants().size())
+                .ownerName(ownerEmail)
+                .currentParticipants(meeting.getParticipantCount())
                 .build();
     }
 
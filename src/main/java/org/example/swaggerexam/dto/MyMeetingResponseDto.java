@@ -0,0 +1,23 @@
+package org.example.swaggerexam.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "내 모임 응답 DTO")
+public class MyMeetingResponseDto {
+
+    private Long id;
+    private String name;
+    private String description;
+    private Integer maxParticipants;
+    private Integer currentParticipants;
+    private String ownerName;
+
+    @Schema(description = "내 역할: OWNER(생성자) 또는 PARTICIPANT(참가자)")
+    private String role;
+}
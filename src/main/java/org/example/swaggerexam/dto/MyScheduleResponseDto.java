@@ -0,0 +1,24 @@
+package org.example.swaggerexam.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "내 일정 응답 DTO")
+public class MyScheduleResponseDto {
+
+    private Long id;
+    private String title;
+    private String date;
+    private String time;
+    private String location;
+    private Long meetingId;
+    private String meetingTitle;
+
+    @Schema(description = "내 역할: OWNER(생성자) 또는 PARTICIPANT(참가자)")
+    private String role;
+}
@@ -0,0 +1,26 @@
+package org.example.swaggerexam.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "시간이 겹치는 내 일정 한 쌍")
+public class ScheduleConflictDto {
+
+    private Long scheduleId;
+    private String scheduleTitle;
+    private Long conflictingScheduleId;
+    private String conflictingScheduleTitle;
+
+    @Schema(description = "겹치는 구간 시작")
+    private Instant overlapStartAt;
+
+    @Schema(description = "겹치는 구간 끝")
+    private Instant overlapEndAt;
+}
@@ -0,0 +1,34 @@
+package org.example.swaggerexam.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.swaggerexam.domain.ScheduleParticipant;
+
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "일정 내보내기 행 (일정 x 참가자, 참가자가 없는 일정은 email/status 없이 한 줄)")
+public class ScheduleExportRowDto {
+
+    private Long scheduleId;
+    private String title;
+    private String date;
+    private String time;
+    private String location;
+    private String email;
+    private String status;
+
+    // JPQL 프로젝션용
+    public ScheduleExportRowDto(Long scheduleId, String title, String date, String time, String location,
+                                String email, ScheduleParticipant.Status status) {
+        this.scheduleId = scheduleId;
+        this.title = title;
+        this.date = date;
+        this.time = time;
+        this.location = location;
+        this.email = email;
+        this.status = status == null ? null : status.name();
+    }
+}
@@ -8,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Data
@@ -18,11 +19,25 @@ public class ScheduleRequestDto {
 
     private String title;
 
+    @Schema(description = "(기존 방식) 날짜, 예: 2025-03-01. startAt 이 있으면 무시")
     private String date;
 
+    @Schema(description = "(기존 방식) 시각, 예: 19:00. startAt 이 있으면 무시")
     private String time;
 
     private String location;
 
+    @Schema(description = "시작 시각 (timeZone 기준 현지 시각)", example = "2025-03-01T19:00:00")
+    private LocalDateTime startAt;
+
+    @Schema(description = "종료 시각 (timeZone 기준 현지 시각, 없으면 시작 + 1시간)", example = "2025-03-01T21:00:00")
+    private LocalDateTime endAt;
+
+    @Schema(description = "IANA 시간대 (없으면 Asia/Seoul)", example = "Asia/Seoul")
+    private String timeZone;
+
+    @Schema(description = "일정 정원 (없으면 미팅 최대 인원, 수정 시 없으면 기존 값 유지)", example = "10")
+    private Integer capacity;
+
 
 }
@@ -10,6 +10,7 @@ import org.example.swaggerexam.domain.Meeting;
 import org.example.swaggerexam.domain.Schedule;
 import org.example.swaggerexam.domain.ScheduleParticipant;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -29,9 +30,36 @@ public class ScheduleResponseDto {
 
 
     private String location;
+    private Instant startAt;
+    private Instant endAt;
+    private String timeZone;
     private MeetingInfoDto meeting;
+
+    @Schema(description = "참가자 목록 (includeParticipants=false 면 null)")
     private List<ScheduleParticipantResponseDto> participants;
 
+    @Schema(description = "참가자 수")
+    private Integer participantCount;
+
+    @Schema(description = "일정 정원 (null 이면 미팅 최대 인원)")
+    private Integer capacity;
+
+    // 목록 조회용 JPQL 생성자 (meeting / 참가자는 서비스에서 채움)
+    public ScheduleResponseDto(Long id, String title, String date, String time, String location,
+                               Instant startAt, Instant endAt, String timeZone,
+                               Integer capacity, Integer participantCount) {
+        this.id = id;
+        this.title = title;
+        this.date = date;
+        this.time = time;
+        this.location = location;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.timeZone = timeZone;
+        this.capacity = capacity;
+        this.participantCount = participantCount;
+    }
+
 
     public static ScheduleResponseDto convertToResponseDto(Schedule schedule) {
         return ScheduleResponseDto.builder()
@@ -40,6 +68,9 @@ public class ScheduleResponseDto {
                 .date(schedule.getDate())
                 .time(schedule.getTime())
                 .location(schedule.getLocation())
+                .startAt(schedule.getStartAt())
+                .endAt(schedule.getEndAt())
+                .timeZone(schedule.getTimeZone())
                 .meeting(MeetingInfoDto.fromEntity(schedule.getMeeting()))
                 .participants(schedule.getScheduleParticipants().stream()
                         .map(sp ->
@@ -47,6 +78,8 @@ public class ScheduleResponseDto {
                                 )
                         .collect(Collectors.toList())
                 )
+                .participantCount(schedule.getAttendeeCount())
+                .capacity(schedule.getCapacity())
                 .build();
     }
 
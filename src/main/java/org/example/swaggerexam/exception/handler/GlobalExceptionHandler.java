@@ -1,6 +1,8 @@
 package org.example.swaggerexam.exception.handler;
 
 import org.example.swaggerexam.dto.ApiResponseDto;
+import org.example.swaggerexam.exception.type.ServiceUnavailableException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
@@ -22,5 +24,12 @@ public class GlobalExceptionHandler {
                 .body(ApiResponseDto.error("UNAUTHORIZED", e.getMessage()));
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponseDto<?>> handleServiceUnavailable(ServiceUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponseDto.error("SERVICE_UNAVAILABLE", e.getMessage()));
+    }
+
 }
 
@@ -43,7 +43,13 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
                 Authentication authentication = getAuthentication(token);
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                if (authentication != null) {
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                } else {
+                    // 만료/위조/로그아웃된 토큰 -> 인증 없이 진행, 서비스에서 로그인 사용자가 없으면 거부
+                    request.setAttribute("exception", JwtExceptionCode.INVALID_TOKEN.getCode());
+                    SecurityContextHolder.clearContext();
+                }
 
             } catch (TokenExpiredException e) {
                 request.setAttribute("exception",  JwtExceptionCode.EXPIRED_TOKEN);
@@ -79,8 +85,13 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     }
 
+    // 요청당 한 번만 토큰을 검증하고 사용자(id, email)를 조회한다.
+    // 결과는 SecurityContext 에 담겨 컨트롤러에서 @AuthenticationPrincipal 로 꺼내 쓴다.
     private Authentication getAuthentication(String token) {
         String email =  jwtUtil.validateAccessToken(token);
+        if (email == null) {
+            return null;
+        }
 
         UserDetails userDetails = userDetailsService.loadUserByUsername(email);
 
@@ -0,0 +1,46 @@
+package org.example.swaggerexam.jwt.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 무효화된 토큰 지문용 블룸 필터.
+ * "무효화되지 않음"은 확실하게, "무효화됨"은 확률적으로 판단한다.
+ */
+class RevocationBloomFilter {
+
+    private static final int HASH_COUNT = 4;
+
+    private final AtomicLongArray words;
+    private final long bitMask;
+
+    RevocationBloomFilter(int log2Bits) {
+        long bits = 1L << log2Bits;
+        this.words = new AtomicLongArray((int) (bits >>> 6));
+        this.bitMask = bits - 1;
+    }
+
+    void put(long primary, long secondary) {
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = (primary + i * secondary) & bitMask;
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(index);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(index, current, current | mask));
+        }
+    }
+
+    boolean mightContain(long primary, long secondary) {
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = (primary + i * secondary) & bitMask;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
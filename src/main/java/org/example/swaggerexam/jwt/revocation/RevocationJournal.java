@@ -0,0 +1,190 @@
+package org.example.swaggerexam.jwt.revocation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 무효화된 토큰 지문을 메모리 맵 파일에 순서대로 기록하는 저널.
+ * 재시작/롤링 배포 후에도 로그아웃된 토큰이 다시 유효해지지 않도록 기동 시 재생(replay)한다.
+ *
+ * 파일 구조: [헤더 16바이트][레코드 24바이트 * capacity]
+ * 레코드 = primary(8) + secondary(8) + expiresAt(8), expiresAt 이 0 인 첫 레코드가 끝을 의미한다.
+ * 기록은 OS 페이지 캐시에만 반영되므로 프로세스 재시작에는 안전하고, 호스트 장애 대비는 compact/종료 시 force 로 처리한다.
+ */
+@Slf4j
+@Component
+public class RevocationJournal {
+
+    private static final int MAGIC = 0x52564A31; // "RVJ1"
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_SIZE = 24;
+
+    private final boolean enabled;
+    private final Path path;
+
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int size; // 기록된 레코드 수 (다음 기록 위치)
+
+    public RevocationJournal(@Value("${jwt.revocation-journal.enabled:true}") boolean enabled,
+                             @Value("${jwt.revocation-journal.path:./data/token-revocations.journal}") String path,
+                             @Value("${jwt.revocation-journal.capacity:65536}") int capacity) {
+        this.enabled = enabled;
+        this.path = Paths.get(path);
+        this.capacity = capacity;
+        if (enabled) {
+            open();
+        }
+    }
+
+    public interface RecordConsumer {
+        void accept(long primary, long secondary, long expiresAt);
+    }
+
+    // 아직 만료되지 않은 레코드를 기록 순서대로 전달
+    public synchronized void replay(RecordConsumer consumer) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < size; i++) {
+            int offset = offset(i);
+            long expiresAt = buffer.getLong(offset + 16);
+            if (expiresAt > now) {
+                consumer.accept(buffer.getLong(offset), buffer.getLong(offset + 8), expiresAt);
+            }
+        }
+    }
+
+    // O(1) 기록, 파일이 가득 차면 만료된 레코드를 먼저 정리하고 그래도 부족하면 파일을 늘린다
+    public synchronized void append(long primary, long secondary, long expiresAt) {
+        if (!enabled) {
+            return;
+        }
+        if (size == capacity) {
+            compactInPlace(System.currentTimeMillis());
+            if (size == capacity) {
+                remap(capacity * 2);
+            }
+        }
+        int offset = offset(size);
+        buffer.putLong(offset, primary);
+        buffer.putLong(offset + 8, secondary);
+        buffer.putLong(offset + 16, expiresAt); // 마지막에 기록해서 끝 표시가 완성된 레코드에만 생기도록
+        size++;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation-journal.compact-interval-ms:600000}")
+    public synchronized void compact() {
+        if (!enabled || size == 0) {
+            return;
+        }
+        int before = size;
+        compactInPlace(System.currentTimeMillis());
+        buffer.force();
+        if (before != size) {
+            log.debug("무효화 저널 정리: {}건 -> {}건", before, size);
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (enabled && buffer != null) {
+            buffer.force();
+        }
+    }
+
+    // 살아있는 레코드를 앞으로 당겨 쓰고 뒤쪽은 끝 표시(expiresAt=0)로 지운다.
+    // 중간에 프로세스가 죽어도 남는 것은 중복/만료 레코드뿐이라 재생 결과는 같다.
+    private void compactInPlace(long now) {
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            int from = offset(read);
+            long expiresAt = buffer.getLong(from + 16);
+            if (expiresAt <= now) {
+                continue;
+            }
+            if (write != read) {
+                int to = offset(write);
+                buffer.putLong(to, buffer.getLong(from));
+                buffer.putLong(to + 8, buffer.getLong(from + 8));
+                buffer.putLong(to + 16, expiresAt);
+            }
+            write++;
+        }
+        for (int i = write; i < size; i++) {
+            buffer.putLong(offset(i) + 16, 0L);
+        }
+        size = write;
+    }
+
+    private void open() {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            boolean exists = Files.exists(path) && Files.size(path) >= HEADER_SIZE;
+            if (exists) {
+                // 기존 파일이 설정보다 크면 그 크기를 그대로 사용
+                capacity = Math.max(capacity, (int) ((Files.size(path) - HEADER_SIZE) / RECORD_SIZE));
+            }
+            map(capacity);
+
+            if (!exists || buffer.getInt(0) != MAGIC) {
+                buffer.putInt(0, MAGIC);
+                buffer.putLong(offset(0) + 16, 0L);
+                size = 0;
+            } else {
+                size = 0;
+                while (size < capacity && buffer.getLong(offset(size) + 16) != 0L) {
+                    size++;
+                }
+            }
+            log.info("무효화 저널 열기: {} (레코드 {}건 / 용량 {}건)", path, size, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("무효화 저널을 열 수 없습니다: " + path, e);
+        }
+    }
+
+    private void remap(int newCapacity) {
+        try {
+            buffer.force();
+            map(newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("무효화 저널을 확장할 수 없습니다: " + path, e);
+        }
+    }
+
+    private void map(int newCapacity) throws IOException {
+        long length = HEADER_SIZE + (long) newCapacity * RECORD_SIZE;
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw");
+             FileChannel channel = file.getChannel()) {
+            if (file.length() < length) {
+                file.setLength(length);
+            }
+            // 매핑은 채널을 닫은 뒤에도 유효하다
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        }
+        capacity = newCapacity;
+    }
+
+    private static int offset(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.swaggerexam.jwt.revocation;
+
+/**
+ * 토큰 문자열 전체를 보관하지 않기 위한 64비트 지문 계산기.
+ * byte[] 변환 없이 char 단위로 바로 해시하므로 조회 경로에서 할당이 발생하지 않는다.
+ */
+public final class TokenFingerprint {
+
+    private static final long PRIMARY_SEED = 0x9E3779B97F4A7C15L;
+    private static final long SECONDARY_SEED = 0xC2B2AE3D27D4EB4FL;
+
+    private TokenFingerprint() {
+    }
+
+    // 저장소의 키로 사용하는 지문
+    public static long primary(String token) {
+        return hash(token, PRIMARY_SEED);
+    }
+
+    // 블룸 필터의 이중 해싱에만 사용하는 보조 해시
+    public static long secondary(String token) {
+        return hash(token, SECONDARY_SEED) | 1L; // 홀수로 만들어 비트 인덱스가 고르게 퍼지도록
+    }
+
+    private static long hash(String value, long seed) {
+        long h = seed ^ value.length();
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
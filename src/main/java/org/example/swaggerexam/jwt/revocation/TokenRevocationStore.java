@@ -0,0 +1,117 @@
+package org.example.swaggerexam.jwt.revocation;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 로그아웃된 ACCESS 토큰 저장소.
+ * 토큰 원문 대신 64비트 지문 두 개(primary + secondary)만 토큰의 exp 까지 보관하고, 만료된 항목은 분 단위 만료 버킷으로 백그라운드에서 정리한다.
+ * 대부분의 요청(무효화되지 않은 토큰)은 앞단의 블룸 필터에서 할당 없이 걸러진다.
+ * 무효화 기록은 {@link RevocationJournal} 에도 남겨 재시작 시 복원한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationStore {
+
+    private static final long BUCKET_MILLIS = 60 * 1000L;             // 만료 버킷 단위: 1분
+    private static final long FILTER_ROTATE_MILLIS = 5 * 60 * 1000L;  // 블룸 필터 재구성 주기: 5분
+    private static final int FILTER_LOG2_BITS = 20;                   // 블룸 필터 크기: 2^20 비트 (128KB)
+
+    private final RevocationJournal journal;
+
+    // 지문 -> 만료 시각. primary 가 같아도 secondary 가 다르면 다른 토큰이므로 둘 다 키로 쓴다
+    private final ConcurrentHashMap<Fingerprint, Long> revoked = new ConcurrentHashMap<>();
+
+    // 만료 버킷 번호 -> 그 버킷 안에서 만료되는 지문들
+    private final ConcurrentSkipListMap<Long, Set<Fingerprint>> expiryBuckets = new ConcurrentSkipListMap<>();
+
+    // 재구성 도중 들어온 지문을 놓치지 않도록 직전 세대 필터도 함께 확인한다
+    private volatile RevocationBloomFilter current = new RevocationBloomFilter(FILTER_LOG2_BITS);
+    private volatile RevocationBloomFilter previous = new RevocationBloomFilter(FILTER_LOG2_BITS);
+    private volatile long filterBuiltAt = System.currentTimeMillis();
+
+    // 재시작 전에 무효화된 토큰 복원
+    @PostConstruct
+    public void restore() {
+        journal.replay(this::revoke);
+        if (!revoked.isEmpty()) {
+            log.info("무효화 저널에서 토큰 {}건 복원", revoked.size());
+        }
+    }
+
+    public boolean isRevoked(String token) {
+        long primary = TokenFingerprint.primary(token);
+        long secondary = TokenFingerprint.secondary(token);
+        if (!current.mightContain(primary, secondary) && !previous.mightContain(primary, secondary)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(new Fingerprint(primary, secondary));
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    public void revoke(String token, long expiresAt) {
+        long primary = TokenFingerprint.primary(token);
+        long secondary = TokenFingerprint.secondary(token);
+        if (expiresAt > System.currentTimeMillis()) {
+            journal.append(primary, secondary, expiresAt);
+        }
+        revoke(primary, secondary, expiresAt);
+    }
+
+    void revoke(long primary, long secondary, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return; // 이미 만료된 토큰은 검증 단계에서 거부되므로 보관할 필요 없음
+        }
+        Fingerprint fingerprint = new Fingerprint(primary, secondary);
+        revoked.merge(fingerprint, expiresAt, Math::max);
+        expiryBuckets.computeIfAbsent(expiresAt / BUCKET_MILLIS, key -> ConcurrentHashMap.newKeySet()).add(fingerprint);
+        current.put(primary, secondary);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    // 만료 시각이 지난 버킷을 통째로 정리하고, 주기적으로 블룸 필터를 살아있는 항목만으로 다시 만든다
+    @Scheduled(fixedDelay = BUCKET_MILLIS)
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+
+        Map<Long, Set<Fingerprint>> expired = expiryBuckets.headMap(now / BUCKET_MILLIS);
+        for (Map.Entry<Long, Set<Fingerprint>> bucket : expired.entrySet()) {
+            for (Fingerprint fingerprint : bucket.getValue()) {
+                Long expiresAt = revoked.get(fingerprint);
+                if (expiresAt != null && expiresAt <= now && revoked.remove(fingerprint, expiresAt)) {
+                    removed++;
+                }
+            }
+            expiryBuckets.remove(bucket.getKey(), bucket.getValue());
+        }
+
+        if (now - filterBuiltAt >= FILTER_ROTATE_MILLIS) {
+            RevocationBloomFilter rebuilt = new RevocationBloomFilter(FILTER_LOG2_BITS);
+            revoked.keySet().forEach(fingerprint -> rebuilt.put(fingerprint.primary(), fingerprint.secondary()));
+            previous = current;
+            current = rebuilt;
+            filterBuiltAt = now;
+        }
+
+        if (removed > 0) {
+            log.debug("만료된 무효화 토큰 {}건 정리, 남은 항목 {}건", removed, revoked.size());
+        }
+    }
+
+    // 조회는 블룸 필터를 통과한 경우에만 일어나므로 키 객체 할당은 무효화된 (또는 오탐) 토큰에서만 생긴다
+    private record Fingerprint(long primary, long secondary) {
+    }
+}
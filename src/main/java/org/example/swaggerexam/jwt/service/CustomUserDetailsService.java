@@ -8,32 +8,33 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.example.swaggerexam.domain.User;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
+    private static final List<GrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("USER"));
+
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Optional<User> user = userRepository.findByEmail(email);
-        if (user.isPresent()) {
-            return new CustomUserDetails(user.get().getId(), user.get().getEmail(),"", getAuthorities("USER"));
+        CustomUserDetails cached = userPrincipalCache.get(email);
+        if (cached != null) {
+            return cached;
         }
-        throw new UsernameNotFoundException("User not found");
-    }
 
-    private List<GrantedAuthority> getAuthorities(String role) {
-        List<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority(role));
-        return authorities;
+        // 엔티티 전체 대신 id 만 조회
+        Long userId = userRepository.findIdByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+
+        CustomUserDetails principal = new CustomUserDetails(userId, email, "", USER_AUTHORITIES);
+        userPrincipalCache.put(email, principal);
+        return principal;
     }
 }
 /*
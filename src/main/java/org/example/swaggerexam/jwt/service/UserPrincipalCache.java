@@ -0,0 +1,45 @@
+package org.example.swaggerexam.jwt.service;
+
+import org.example.swaggerexam.jwt.dto.CustomUserDetails;
+import org.example.swaggerexam.util.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이메일 -> 인증 주체(id, email) 캐시.
+ * 인증된 요청마다 users 테이블을 조회하지 않도록 TTL 동안 보관하고 (가득 차면 가장 오래 쓰이지 않은 항목부터 밀어냄),
+ * 사용자가 수정/삭제되면 {@link UserPrincipalCacheListener} 가 커밋 이후 제거한다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final long ttlMillis;
+    private final ExpiringLruCache<String, CustomUserDetails> entries;
+
+    public UserPrincipalCache(@Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                              @Value("${security.principal-cache.max-size:10000}") int maxSize) {
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.entries = new ExpiringLruCache<>(maxSize);
+    }
+
+    public CustomUserDetails get(String email) {
+        return entries.get(email, System.currentTimeMillis());
+    }
+
+    public void put(String email, CustomUserDetails principal) {
+        long now = System.currentTimeMillis();
+        entries.put(email, principal, now + ttlMillis, now);
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            entries.remove(email);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void evictExpired() {
+        entries.evictExpired(System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.swaggerexam.jwt.service;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.example.swaggerexam.domain.User;
+import org.example.swaggerexam.util.TransactionCallbacks;
+import org.springframework.stereotype.Component;
+
+// User 엔티티가 수정(비밀번호 / 이메일 변경 등)되거나 삭제되면 캐시된 인증 주체를 제거
+// 이메일이 바뀐 경우 이전 이메일 키도 함께 지우고, 제거는 커밋 이후에 한다 (커밋 전 다른 요청이 옛 값을 다시 캐시하지 않도록)
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCacheListener {
+
+    private final UserPrincipalCache userPrincipalCache;
+
+    // 읽어 온(또는 저장한) 시점의 이메일을 기억해 두어 변경 후에도 이전 키를 알 수 있게 한다
+    @PostLoad
+    @PostPersist
+    public void remember(User user) {
+        user.setLoadedEmail(user.getEmail());
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        String previous = user.getLoadedEmail();
+        String current = user.getEmail();
+        user.setLoadedEmail(current);
+        TransactionCallbacks.afterCommit(() -> {
+            userPrincipalCache.evict(previous);
+            userPrincipalCache.evict(current);
+        });
+    }
+}
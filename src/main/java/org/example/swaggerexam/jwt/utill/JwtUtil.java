@@ -2,42 +2,59 @@ package org.example.swaggerexam.jwt.utill;
 
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import org.example.swaggerexam.jwt.revocation.TokenRevocationStore;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.HexFormat;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
 
-    // ACCESS 및 REFRESH 토큰 생성에 사용할 비밀 키를 저장하는 필드
-    private final byte[] accessSecret; // ACCESS 토큰 서명에 사용할 비밀 키
-    private final byte[] refreshSecret; // REFRESH 토큰 서명에 사용할 비밀 키
+    // ACCESS 및 REFRESH 토큰 서명/검증에 사용할 알고리즘과 검증기 (스레드 안전하므로 한 번만 생성해서 재사용)
+    private final Algorithm accessAlgorithm;
+    private final Algorithm refreshAlgorithm;
+    private final JWTVerifier accessVerifier;
+    private final JWTVerifier refreshVerifier;
+
+    // 로그아웃으로 무효화된 ACCESS 토큰 저장소
+    private final TokenRevocationStore revocationStore;
+
+    // 검증을 통과한 ACCESS 토큰 캐시 (토큰 -> subject, exp)
+    private final VerifiedTokenCache verifiedAccessTokens = new VerifiedTokenCache(VERIFIED_TOKEN_CACHE_SIZE);
 
 
     public static final Long ACCESS_TOKEN_EXPIRES_COUNT = 30 * 60 * 1000L; // ACCESS 토큰 만료 시간: 30분 (밀리초 단위)
     public static final Long REFRESH_TOKEN_EXPIRES_COUNT = 7 * 24 * 60 * 60 * 1000L; // REFRESH 토큰 만료 시간: 7일 (밀리초 단위)
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000; // 검증 결과를 보관할 최대 토큰 수
 
     public JwtUtil(@Value("${jwt.secretKey}") String accessSecret,
-                   @Value("${jwt.refreshKey}") String refreshSecret) {
-        this.accessSecret = accessSecret.getBytes(StandardCharsets.UTF_8); // ACCESS 비밀 키를 UTF-8 바이트 배열로 변환
-        this.refreshSecret = refreshSecret.getBytes(StandardCharsets.UTF_8); // REFRESH 비밀 키를 UTF-8 바이트 배열로 변환
+                   @Value("${jwt.refreshKey}") String refreshSecret,
+                   TokenRevocationStore revocationStore) {
+        this.accessAlgorithm = Algorithm.HMAC256(accessSecret.getBytes(StandardCharsets.UTF_8)); // ACCESS 비밀 키를 UTF-8 바이트 배열로 변환
+        this.refreshAlgorithm = Algorithm.HMAC256(refreshSecret.getBytes(StandardCharsets.UTF_8)); // REFRESH 비밀 키를 UTF-8 바이트 배열로 변환
+        this.accessVerifier = JWT.require(accessAlgorithm).build();
+        this.refreshVerifier = JWT.require(refreshAlgorithm).build();
+        this.revocationStore = revocationStore;
     }
 
 
-    private final ConcurrentHashMap<String, Boolean> invalidTokens = new ConcurrentHashMap<>();
-
     // ACCESS 토큰 생성
     public String generateAccessToken(String email) {
         return JWT.create()
                 .withSubject(email)
                 .withExpiresAt(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRES_COUNT))
-                .sign(Algorithm.HMAC256(accessSecret));
+                .sign(accessAlgorithm);
     }
 
     // REFRESH 토큰 생성
@@ -45,16 +62,36 @@ public class JwtUtil {
         return JWT.create()
                 .withSubject(email)
                 .withExpiresAt(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRES_COUNT))
-                .sign(Algorithm.HMAC256(refreshSecret));
+                .withJWTId(UUID.randomUUID().toString()) // 같은 초에 여러 기기에서 로그인해도 토큰이 겹치지 않도록
+                .sign(refreshAlgorithm);
+    }
+
+    // REFRESH 토큰 저장/조회용 해시 (SHA-256, hex 64자)
+    public String hashToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
     }
 
     // ACCESS 토큰 검증
     public String validateAccessToken(String token) {
         try {
-            if (invalidTokens.containsKey(token)) {
+            if (revocationStore.isRevoked(token)) {
                 return null;
             }
-            DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC256(accessSecret)).build().verify(token);
+            long now = System.currentTimeMillis();
+            String cached = verifiedAccessTokens.get(token, now);
+            if (cached != null) {
+                return cached;
+            }
+            DecodedJWT decodedJWT = accessVerifier.verify(token);
+            Date expiresAt = decodedJWT.getExpiresAt();
+            if (expiresAt != null && decodedJWT.getSubject() != null) {
+                verifiedAccessTokens.put(token, decodedJWT.getSubject(), expiresAt.getTime(), now);
+            }
             return decodedJWT.getSubject();
         } catch (JWTVerificationException | NumberFormatException e) {
             return null;
@@ -64,7 +101,7 @@ public class JwtUtil {
     // REFRESH 토큰 검증
     public String validateRefreshToken(String token) {
         try {
-            DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC256(refreshSecret)).build().verify(token);
+            DecodedJWT decodedJWT = refreshVerifier.verify(token);
             return decodedJWT.getSubject();
         } catch (JWTVerificationException e) {
             return null;
@@ -72,9 +109,24 @@ public class JwtUtil {
     }
 
 
+    // ACCESS 토큰 무효화 (토큰의 exp 까지만 보관)
     public void invalidateToken(String token) {
+        verifiedAccessTokens.remove(token);
 
-        invalidTokens.put(token, true);
+        Date expiresAt;
+        try {
+            expiresAt = accessVerifier.verify(token).getExpiresAt();
+        } catch (JWTVerificationException e) {
+            return; // 이미 만료됐거나 위조된 토큰은 검증 단계에서 거부되므로 보관할 필요 없음
+        }
+        if (expiresAt != null) {
+            revocationStore.revoke(token, expiresAt.getTime());
+        }
+    }
 
+    // 만료된 뒤 다시 조회되지 않는 토큰이 용량이 찰 때까지 남지 않도록 주기적으로 정리
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void evictExpiredTokens() {
+        verifiedAccessTokens.evictExpired(System.currentTimeMillis());
     }
 }
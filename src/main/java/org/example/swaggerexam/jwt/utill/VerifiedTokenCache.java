@@ -0,0 +1,39 @@
+package org.example.swaggerexam.jwt.utill;
+
+import org.example.swaggerexam.util.ExpiringLruCache;
+
+/**
+ * 서명 검증을 통과한 ACCESS 토큰의 subject / 만료 시각을 보관하는 캐시.
+ * 같은 토큰이 요청마다 다시 들어오므로 HMAC 검증과 Base64/JSON 디코딩을 한 번만 하도록 한다.
+ * 항목은 토큰의 exp 시각이 지나면 조회 시점에 바로 제거되고, 다시 조회되지 않는 만료 토큰은 JwtUtil 의 주기 정리({@link #evictExpired(long)})가 지운다.
+ * 용량이 차면 가장 오래 쓰이지 않은 토큰부터 밀어낸다.
+ */
+public class VerifiedTokenCache {
+
+    private final ExpiringLruCache<String, String> entries;
+
+    public VerifiedTokenCache(int maxSize) {
+        this.entries = new ExpiringLruCache<>(maxSize);
+    }
+
+    // 캐시에 있고 아직 만료되지 않은 토큰이면 subject 반환, 아니면 null
+    public String get(String token, long now) {
+        return entries.get(token, now);
+    }
+
+    public void put(String token, String subject, long expiresAt, long now) {
+        entries.put(token, subject, expiresAt, now);
+    }
+
+    public void remove(String token) {
+        entries.remove(token);
+    }
+
+    public void evictExpired(long now) {
+        entries.evictExpired(now);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
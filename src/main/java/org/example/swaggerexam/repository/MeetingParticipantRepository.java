@@ -1,15 +1,65 @@
 package org.example.swaggerexam.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.swaggerexam.domain.Meeting;
 import org.example.swaggerexam.domain.MeetingParticipant;
 import org.example.swaggerexam.domain.User;
+import org.example.swaggerexam.dto.MeetingParticipantResponseDto;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MeetingParticipantRepository extends JpaRepository<MeetingParticipant, Long> {
 
     Boolean existsByMeetingAndUser(Meeting meeting, User user);
 
     List<MeetingParticipant> findByMeetingId(Long meetingId);
+
+    // 참가자 목록 (참가 순서 키셋 페이지네이션, 상태/역할 필터는 null 이면 미적용)
+    @Query("SELECT new org.example.swaggerexam.dto.MeetingParticipantResponseDto(" +
+            "mp.id, u.email, mp.status, mp.role, mp.createdAt) " +
+            "FROM MeetingParticipant mp JOIN mp.user u " +
+            "WHERE mp.meeting.id = :meetingId " +
+            "AND (:status IS NULL OR mp.status = :status) " +
+            "AND (:role IS NULL OR mp.role = :role) " +
+            "AND (:cursorCreatedAt IS NULL OR mp.createdAt > :cursorCreatedAt " +
+            "     OR (mp.createdAt = :cursorCreatedAt AND mp.id > :cursorId)) " +
+            "ORDER BY mp.createdAt, mp.id")
+    List<MeetingParticipantResponseDto> findPage(@Param("meetingId") Long meetingId,
+                                                 @Param("status") MeetingParticipant.Status status,
+                                                 @Param("role") MeetingParticipant.Role role,
+                                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    // 내보내기용 스트림. MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때만 행을 한 줄씩 읽어온다
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.swaggerexam.dto.MeetingParticipantResponseDto(" +
+            "mp.id, u.email, mp.status, mp.role, mp.createdAt) " +
+            "FROM MeetingParticipant mp JOIN mp.user u " +
+            "WHERE mp.meeting.id = :meetingId " +
+            "ORDER BY mp.createdAt, mp.id")
+    Stream<MeetingParticipantResponseDto> streamByMeetingId(@Param("meetingId") Long meetingId);
+
+    boolean existsByMeetingIdAndUserId(Long meetingId, Long userId);
+
+    // 주어진 사용자 중 이미 참가한 사용자 id
+    @Query("SELECT mp.user.id FROM MeetingParticipant mp WHERE mp.meeting.id = :meetingId AND mp.user.id IN :userIds")
+    List<Long> findJoinedUserIds(@Param("meetingId") Long meetingId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM meeting_participants WHERE meeting_id = :meetingId", nativeQuery = true)
+    int deleteAllByMeetingId(@Param("meetingId") Long meetingId);
 }
@@ -1,7 +1,108 @@
 package org.example.swaggerexam.repository;
 
 import org.example.swaggerexam.domain.Meeting;
+import org.example.swaggerexam.dto.MeetingResponseDto;
+import org.example.swaggerexam.dto.MyMeetingResponseDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
+
+    // 모임 목록 (키셋 페이지네이션). owner 와 참가자 수를 한 쿼리에서 DTO 로 바로 조회
+    @Query("SELECT new org.example.swaggerexam.dto.MeetingResponseDto(" +
+            "m.id, m.title, m.description, m.maxParticipants, o.email, m.participantCount) " +
+            "FROM Meeting m JOIN m.owner o " +
+            "WHERE m.id > :cursor " +
+            "ORDER BY m.id")
+    List<MeetingResponseDto> findPageAfter(@Param("cursor") Long cursor, Pageable pageable);
+
+    // 검색 결과 id 목록으로 응답 DTO 조회 (순서는 호출 측에서 맞춤)
+    @Query("SELECT new org.example.swaggerexam.dto.MeetingResponseDto(" +
+            "m.id, m.title, m.description, m.maxParticipants, o.email, m.participantCount) " +
+            "FROM Meeting m JOIN m.owner o " +
+            "WHERE m.id IN :ids")
+    List<MeetingResponseDto> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인 생성용 (제목/설명만)
+    @Query("SELECT m.id AS id, m.title AS title, m.description AS description " +
+            "FROM Meeting m WHERE m.id > :cursor ORDER BY m.id")
+    List<MeetingText> findTextPageAfter(@Param("cursor") Long cursor, Pageable pageable);
+
+    interface MeetingText {
+        Long getId();
+
+        String getTitle();
+
+        String getDescription();
+    }
+
+    // 내가 만든 모임 (owner_id 인덱스, id 내림차순 키셋)
+    @Query("SELECT new org.example.swaggerexam.dto.MyMeetingResponseDto(" +
+            "m.id, m.title, m.description, m.maxParticipants, m.participantCount, o.email, 'OWNER') " +
+            "FROM Meeting m JOIN m.owner o " +
+            "WHERE o.id = :userId AND m.id < :cursor " +
+            "ORDER BY m.id DESC")
+    List<MyMeetingResponseDto> findOwnedPage(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 내가 참가한 모임 (meeting_participants(user_id, meeting_id) 인덱스, meeting_id 내림차순 키셋)
+    @Query("SELECT new org.example.swaggerexam.dto.MyMeetingResponseDto(" +
+            "m.id, m.title, m.description, m.maxParticipants, m.participantCount, o.email, " +
+            "CASE WHEN o.id = :userId THEN 'OWNER' ELSE 'PARTICIPANT' END) " +
+            "FROM MeetingParticipant mp JOIN mp.meeting m JOIN m.owner o " +
+            "WHERE mp.user.id = :userId AND mp.meeting.id < :cursor " +
+            "ORDER BY mp.meeting.id DESC")
+    List<MyMeetingResponseDto> findJoinedPage(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 정원이 남아 있을 때만 참가자 수 +1 (0 이면 정원 초과 또는 미팅 없음)
+    @Modifying
+    @Query(value = "UPDATE meetings SET participant_count = participant_count + 1 " +
+            "WHERE id = :meetingId AND participant_count < max_participants", nativeQuery = true)
+    int incrementParticipantCount(@Param("meetingId") Long meetingId);
+
+    @Modifying
+    @Query(value = "UPDATE meetings SET participant_count = participant_count - 1 " +
+            "WHERE id = :meetingId AND participant_count > 0", nativeQuery = true)
+    int decrementParticipantCount(@Param("meetingId") Long meetingId);
+
+    // 현재 참가자 수 이상일 때만 최대 인원 변경 (0 이면 참가자 수보다 적게 줄이려는 요청)
+    @Modifying
+    @Query(value = "UPDATE meetings SET max_participants = :maxParticipants " +
+            "WHERE id = :meetingId AND participant_count <= :maxParticipants", nativeQuery = true)
+    int updateMaxParticipants(@Param("meetingId") Long meetingId, @Param("maxParticipants") Integer maxParticipants);
+
+    @Query("SELECT m.owner.id FROM Meeting m WHERE m.id = :meetingId")
+    Optional<Long> findOwnerIdById(@Param("meetingId") Long meetingId);
+
+    // 미팅 행을 잠그고 owner id 조회 (삭제 중 참가 좌석 선점이 끼어들지 않도록)
+    @Query(value = "SELECT owner_id FROM meetings WHERE id = :meetingId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockOwnerIdById(@Param("meetingId") Long meetingId);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_meeting WHERE meeting_id = :meetingId", nativeQuery = true)
+    int deleteUserMeetingsByMeetingId(@Param("meetingId") Long meetingId);
+
+    @Modifying
+    @Query(value = "DELETE FROM meetings WHERE id = :meetingId", nativeQuery = true)
+    int deleteMeetingById(@Param("meetingId") Long meetingId);
+
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM Meeting m")
+    Long findMaxId();
+
+    // (fromId, toId] 범위에서 실제 참가자 수와 다른 participant_count 를 바로잡는다
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE meetings m " +
+            "SET m.participant_count = (SELECT COUNT(*) FROM meeting_participants mp WHERE mp.meeting_id = m.id) " +
+            "WHERE m.id > :fromId AND m.id <= :toId " +
+            "AND m.participant_count <> (SELECT COUNT(*) FROM meeting_participants mp WHERE mp.meeting_id = m.id)",
+            nativeQuery = true)
+    int reconcileParticipantCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
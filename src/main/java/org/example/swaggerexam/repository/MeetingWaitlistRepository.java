@@ -0,0 +1,33 @@
+package org.example.swaggerexam.repository;
+
+import org.example.swaggerexam.domain.MeetingWaitlist;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MeetingWaitlistRepository extends JpaRepository<MeetingWaitlist, Long> {
+
+    // 대기 순서대로 앞에서부터 조회
+    @Query("SELECT w FROM MeetingWaitlist w WHERE w.meeting.id = :meetingId ORDER BY w.id")
+    List<MeetingWaitlist> findQueue(@Param("meetingId") Long meetingId, Pageable pageable);
+
+    // 대기 순번 (내 앞 대기자 수 + 1)
+    long countByMeetingIdAndIdLessThanEqual(Long meetingId, Long id);
+
+    @Modifying
+    @Query("DELETE FROM MeetingWaitlist w WHERE w.meeting.id = :meetingId AND w.user.id = :userId")
+    int deleteByMeetingIdAndUserId(@Param("meetingId") Long meetingId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM meeting_waitlists WHERE meeting_id = :meetingId", nativeQuery = true)
+    int deleteAllByMeetingId(@Param("meetingId") Long meetingId);
+
+    // 대기자가 있는데 자리가 남아 있는 미팅 (승격 신호를 놓친 경우 보정용)
+    @Query("SELECT DISTINCT w.meeting.id FROM MeetingWaitlist w " +
+            "WHERE w.meeting.participantCount < w.meeting.maxParticipants")
+    List<Long> findMeetingIdsWithFreeSeats();
+}
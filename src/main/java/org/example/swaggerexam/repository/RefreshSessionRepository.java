@@ -0,0 +1,37 @@
+package org.example.swaggerexam.repository;
+
+import org.example.swaggerexam.domain.RefreshSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshSessionRepository extends JpaRepository<RefreshSession, Long> {
+
+    // 토큰 해시(유니크 인덱스)로 세션 + 사용자 조회
+    @Query("SELECT rs FROM RefreshSession rs JOIN FETCH rs.user WHERE rs.tokenHash = :tokenHash")
+    Optional<RefreshSession> findByTokenHashWithUser(@Param("tokenHash") String tokenHash);
+
+    // 토큰 교체 (rotation). 이전 해시가 그대로일 때만 바뀌므로 같은 토큰으로 동시에 갱신하면 하나만 성공한다.
+    @Modifying
+    @Query("UPDATE RefreshSession rs SET rs.tokenHash = :newTokenHash, rs.expiresAt = :expiresAt " +
+            "WHERE rs.id = :id AND rs.tokenHash = :oldTokenHash")
+    int rotate(@Param("id") Long id,
+               @Param("oldTokenHash") String oldTokenHash,
+               @Param("newTokenHash") String newTokenHash,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM RefreshSession rs WHERE rs.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // 만료된 세션을 limit 건씩 삭제 (한 번에 큰 DELETE 로 락을 오래 잡지 않도록)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_sessions WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
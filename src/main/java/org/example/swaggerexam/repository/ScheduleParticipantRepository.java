@@ -4,15 +4,17 @@ import org.example.swaggerexam.domain.Schedule;
 import org.example.swaggerexam.domain.ScheduleParticipant;
 import org.example.swaggerexam.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ScheduleParticipantRepository extends JpaRepository<ScheduleParticipant, Long> {
-    boolean existsByScheduleAndUser(Schedule schedule, User user);
-    int countBySchedule(Schedule schedule);
+    boolean existsByScheduleIdAndUserId(Long scheduleId, Long userId);
 
     // 참가자 조회 (With User)
     @Query("SELECT sp FROM ScheduleParticipant sp JOIN FETCH sp.user WHERE sp.schedule = :schedule")
@@ -21,4 +23,46 @@ public interface ScheduleParticipantRepository extends JpaRepository<SchedulePar
     // 사용자별 참가 여부 확인
     Optional<ScheduleParticipant> findByScheduleAndUser(Schedule schedule, User user);
 
+    // 일정 목록 2단계: 한 페이지 일정들의 참가자만 IN 으로 로딩
+    @Query("SELECT sp.schedule.id AS scheduleId, u.id AS userId, u.email AS email " +
+            "FROM ScheduleParticipant sp JOIN sp.user u " +
+            "WHERE sp.schedule.id IN :scheduleIds ORDER BY sp.id")
+    List<ParticipantRow> findRowsByScheduleIdIn(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    interface ParticipantRow {
+        Long getScheduleId();
+
+        Long getUserId();
+
+        String getEmail();
+    }
+
+    // 캘린더 피드 변경 기록용: 일정 / 미팅의 일정에 참가한 사용자
+    @Query("SELECT sp.user.id FROM ScheduleParticipant sp WHERE sp.schedule.id = :scheduleId")
+    List<Long> findUserIdsByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    @Query("SELECT DISTINCT sp.user.id FROM ScheduleParticipant sp WHERE sp.schedule.meeting.id = :meetingId")
+    List<Long> findUserIdsByMeetingId(@Param("meetingId") Long meetingId);
+
+    // 일정 겹침 검사용: 사용자가 참가한 일정의 시간 구간 (user_id, schedule_id) 인덱스
+    @Query("SELECT s.id AS scheduleId, s.startAt AS startAt, s.endAt AS endAt " +
+            "FROM ScheduleParticipant sp JOIN sp.schedule s " +
+            "WHERE sp.user.id = :userId AND s.startAt IS NOT NULL AND s.endAt IS NOT NULL")
+    List<ScheduleInterval> findIntervalsByUserId(@Param("userId") Long userId);
+
+    interface ScheduleInterval {
+        Long getScheduleId();
+
+        Instant getStartAt();
+
+        Instant getEndAt();
+    }
+
+    // 미팅 삭제용: 미팅의 모든 일정 참가자를 한 번에 삭제
+    @Modifying
+    @Query(value = "DELETE sp FROM schedule_participants sp " +
+            "JOIN schedules s ON sp.schedule_id = s.id " +
+            "WHERE s.meeting_id = :meetingId", nativeQuery = true)
+    int deleteAllByMeetingId(@Param("meetingId") Long meetingId);
+
 }
@@ -1,23 +1,202 @@
 package org.example.swaggerexam.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.swaggerexam.domain.Schedule;
 import org.example.swaggerexam.domain.ScheduleParticipant;
 import org.example.swaggerexam.domain.User;
+import org.example.swaggerexam.dto.CalendarEventDto;
+import org.example.swaggerexam.dto.MyScheduleResponseDto;
+import org.example.swaggerexam.dto.ScheduleExportRowDto;
+import org.example.swaggerexam.dto.ScheduleResponseDto;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
-    @Query("SELECT DISTINCT  s FROM Schedule s " +
-            "LEFT JOIN FETCH s.scheduleParticipants sp " +
-            "LEFT JOIN FETCH sp.user " +
-            "LEFT JOIN FETCH s.meeting " +
-            "WHERE s.meeting.id = :meetingId")
-    List<Schedule> findByMeetingIdWithDetails(@Param("meetingId") Long meetingId);
+    // 일정 목록 1단계: 일정 행만 id 순 키셋 페이지로 조회 (참가자는 ScheduleParticipantRepository 에서 페이지 단위로 따로 로딩)
+    @Query("SELECT new org.example.swaggerexam.dto.ScheduleResponseDto(" +
+            "s.id, s.title, s.date, s.time, s.location, s.startAt, s.endAt, s.timeZone, s.capacity, s.attendeeCount) " +
+            "FROM Schedule s " +
+            "WHERE s.meeting.id = :meetingId AND s.id > :cursor " +
+            "ORDER BY s.id")
+    List<ScheduleResponseDto> findPage(@Param("meetingId") Long meetingId,
+                                       @Param("cursor") Long cursor,
+                                       Pageable pageable);
+
+    // 내가 만든 일정 (owner_id 인덱스, id 내림차순 키셋)
+    @Query("SELECT new org.example.swaggerexam.dto.MyScheduleResponseDto(" +
+            "s.id, s.title, s.date, s.time, s.location, m.id, m.title, 'OWNER') " +
+            "FROM Schedule s JOIN s.meeting m " +
+            "WHERE s.owner.id = :userId AND s.id < :cursor " +
+            "ORDER BY s.id DESC")
+    List<MyScheduleResponseDto> findOwnedPage(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 내가 참가한 일정 (schedule_participants(user_id, schedule_id) 인덱스, schedule_id 내림차순 키셋)
+    @Query("SELECT new org.example.swaggerexam.dto.MyScheduleResponseDto(" +
+            "s.id, s.title, s.date, s.time, s.location, m.id, m.title, " +
+            "CASE WHEN s.owner.id = :userId THEN 'OWNER' ELSE 'PARTICIPANT' END) " +
+            "FROM ScheduleParticipant sp JOIN sp.schedule s JOIN s.meeting m " +
+            "WHERE sp.user.id = :userId AND sp.schedule.id < :cursor " +
+            "ORDER BY sp.schedule.id DESC")
+    List<MyScheduleResponseDto> findJoinedPage(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 내보내기용 스트림 (일정 x 참가자 평면 행, fetch size 는 MeetingParticipantRepository.streamByMeetingId 참고)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.swaggerexam.dto.ScheduleExportRowDto(" +
+            "s.id, s.title, s.date, s.time, s.location, u.email, sp.status) " +
+            "FROM Schedule s LEFT JOIN s.scheduleParticipants sp LEFT JOIN sp.user u " +
+            "WHERE s.meeting.id = :meetingId " +
+            "ORDER BY s.id, sp.id")
+    Stream<ScheduleExportRowDto> streamExportRowsByMeetingId(@Param("meetingId") Long meetingId);
+
+    // 캘린더(ICS) 피드 스트림 (fetch size 는 MeetingParticipantRepository.streamByMeetingId 참고)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.swaggerexam.dto.CalendarEventDto(" +
+            "s.id, s.title, s.location, s.startAt, s.endAt, m.title) " +
+            "FROM Schedule s JOIN s.meeting m " +
+            "WHERE m.id = :meetingId AND s.startAt IS NOT NULL AND s.endAt IS NOT NULL " +
+            "ORDER BY s.id")
+    Stream<CalendarEventDto> streamCalendarByMeetingId(@Param("meetingId") Long meetingId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.swaggerexam.dto.CalendarEventDto(" +
+            "s.id, s.title, s.location, s.startAt, s.endAt, m.title) " +
+            "FROM ScheduleParticipant sp JOIN sp.schedule s JOIN s.meeting m " +
+            "WHERE sp.user.id = :userId AND s.startAt IS NOT NULL AND s.endAt IS NOT NULL " +
+            "ORDER BY s.id")
+    Stream<CalendarEventDto> streamCalendarByUserId(@Param("userId") Long userId);
+
+    // 증분 동기화: 바뀐 일정만
+    @Query("SELECT new org.example.swaggerexam.dto.CalendarEventDto(" +
+            "s.id, s.title, s.location, s.startAt, s.endAt, m.title) " +
+            "FROM Schedule s JOIN s.meeting m " +
+            "WHERE m.id = :meetingId AND s.id IN :ids AND s.startAt IS NOT NULL AND s.endAt IS NOT NULL")
+    List<CalendarEventDto> findCalendarByMeetingIdAndIdIn(@Param("meetingId") Long meetingId,
+                                                          @Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new org.example.swaggerexam.dto.CalendarEventDto(" +
+            "s.id, s.title, s.location, s.startAt, s.endAt, m.title) " +
+            "FROM ScheduleParticipant sp JOIN sp.schedule s JOIN s.meeting m " +
+            "WHERE sp.user.id = :userId AND s.id IN :ids AND s.startAt IS NOT NULL AND s.endAt IS NOT NULL")
+    List<CalendarEventDto> findCalendarByUserIdAndIdIn(@Param("userId") Long userId,
+                                                       @Param("ids") Collection<Long> ids);
+
+    // 기간 조회: (meeting_id, start_at) 인덱스 범위 스캔, (start_at, id) 키셋 페이지
+    @Query("SELECT new org.example.swaggerexam.dto.ScheduleResponseDto(" +
+            "s.id, s.title, s.date, s.time, s.location, s.startAt, s.endAt, s.timeZone, s.capacity, s.attendeeCount) " +
+            "FROM Schedule s " +
+            "WHERE s.meeting.id = :meetingId AND s.startAt >= :from AND s.startAt < :to " +
+            "AND (s.startAt > :cursorStartAt OR (s.startAt = :cursorStartAt AND s.id > :cursorId)) " +
+            "ORDER BY s.startAt, s.id")
+    List<ScheduleResponseDto> findPageByStartAt(@Param("meetingId") Long meetingId,
+                                                @Param("from") Instant from,
+                                                @Param("to") Instant to,
+                                                @Param("cursorStartAt") Instant cursorStartAt,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
+
+    // start_at 이 비어 있는 기존 일정 (date/time 문자열만 있는 행)
+    @Query("SELECT s.id AS id, s.date AS date, s.time AS time FROM Schedule s " +
+            "WHERE s.startAt IS NULL AND s.id > :afterId ORDER BY s.id")
+    List<LegacyScheduleTime> findLegacyTimes(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Schedule s SET s.startAt = :startAt, s.endAt = :endAt, s.timeZone = :timeZone " +
+            "WHERE s.id = :id AND s.startAt IS NULL")
+    int backfillTimes(@Param("id") Long id,
+                      @Param("startAt") Instant startAt,
+                      @Param("endAt") Instant endAt,
+                      @Param("timeZone") String timeZone);
+
+    interface LegacyScheduleTime {
+        Long getId();
+
+        String getDate();
+
+        String getTime();
+    }
+
+    @Query("SELECT s.id AS id, s.title AS title FROM Schedule s WHERE s.id IN :ids")
+    List<ScheduleTitle> findTitlesByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface ScheduleTitle {
+        Long getId();
+
+        String getTitle();
+    }
+
+    // 미팅 소속 일정이고, 사용자가 미팅 참가자이며, 정원(capacity, 없으면 미팅 최대 인원)이 남아 있을 때만 참가자 수 +1
+    // 0 이면 위 조건 중 하나가 맞지 않음 (원인은 ScheduleService 에서 따로 확인)
+    @Modifying
+    @Query(value = "UPDATE schedules s JOIN meetings m ON m.id = s.meeting_id " +
+            "SET s.attendee_count = s.attendee_count + 1 " +
+            "WHERE s.id = :scheduleId AND s.meeting_id = :meetingId " +
+            "AND s.attendee_count < COALESCE(s.capacity, m.max_participants) " +
+            "AND EXISTS (SELECT 1 FROM meeting_participants mp " +
+            "WHERE mp.meeting_id = s.meeting_id AND mp.user_id = :userId)", nativeQuery = true)
+    int incrementAttendeeCount(@Param("meetingId") Long meetingId,
+                               @Param("scheduleId") Long scheduleId,
+                               @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE schedules SET attendee_count = attendee_count - 1 " +
+            "WHERE id = :scheduleId AND attendee_count > 0", nativeQuery = true)
+    int decrementAttendeeCount(@Param("scheduleId") Long scheduleId);
+
+    // 현재 참가자 수 이상일 때만 정원 변경 (0 이면 참가자 수보다 적게 줄이려는 요청)
+    @Modifying
+    @Query(value = "UPDATE schedules SET capacity = :capacity " +
+            "WHERE id = :scheduleId AND attendee_count <= :capacity", nativeQuery = true)
+    int updateCapacity(@Param("scheduleId") Long scheduleId, @Param("capacity") Integer capacity);
+
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM Schedule s")
+    Long findMaxId();
+
+    // (fromId, toId] 범위에서 실제 참가자 수와 다른 attendee_count 를 바로잡는다
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE schedules s " +
+            "SET s.attendee_count = (SELECT COUNT(*) FROM schedule_participants sp WHERE sp.schedule_id = s.id) " +
+            "WHERE s.id > :fromId AND s.id <= :toId " +
+            "AND s.attendee_count <> (SELECT COUNT(*) FROM schedule_participants sp WHERE sp.schedule_id = s.id)",
+            nativeQuery = true)
+    int reconcileAttendeeCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 미팅 삭제 중 일정 참가(외래 키 검사)가 끼어들지 않도록 미팅의 일정 행을 잠금
+    @Query(value = "SELECT id FROM schedules WHERE meeting_id = :meetingId FOR UPDATE", nativeQuery = true)
+    List<Long> lockIdsByMeetingId(@Param("meetingId") Long meetingId);
+
+    @Modifying
+    @Query(value = "DELETE us FROM user_schedule us " +
+            "JOIN schedules s ON us.schedule_id = s.id " +
+            "WHERE s.meeting_id = :meetingId", nativeQuery = true)
+    int deleteUserSchedulesByMeetingId(@Param("meetingId") Long meetingId);
+
+    @Modifying
+    @Query(value = "DELETE FROM schedules WHERE meeting_id = :meetingId", nativeQuery = true)
+    int deleteAllByMeetingId(@Param("meetingId") Long meetingId);
 
 
 }
@@ -2,10 +2,27 @@ package org.example.swaggerexam.repository;
 
 import org.example.swaggerexam.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
-    Optional<User> findByRefreshToken(String refreshToken);
+
+    // 인증 주체 생성용: 엔티티를 만들지 않고 id 만 조회
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    // 일괄 등록용: 이메일 목록 -> (id, email)
+    @Query("SELECT u.id AS id, u.email AS email FROM User u WHERE u.email IN :emails")
+    List<UserIdentity> findIdentitiesByEmailIn(@Param("emails") Collection<String> emails);
+
+    interface UserIdentity {
+        Long getId();
+
+        String getEmail();
+    }
 }
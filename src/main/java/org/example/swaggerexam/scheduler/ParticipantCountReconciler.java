@@ -0,0 +1,59 @@
+package org.example.swaggerexam.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.swaggerexam.repository.MeetingRepository;
+import org.example.swaggerexam.repository.ScheduleRepository;
+import org.example.swaggerexam.service.MeetingListCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// meetings.participant_count / schedules.attendee_count 가 실제 참가자 수와 어긋난 경우 id 구간 단위로 보정
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipantCountReconciler {
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingListCache meetingListCache;
+    private final ScheduleRepository scheduleRepository;
+
+    @Value("${meeting.participant-count.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${meeting.participant-count.reconcile-interval-ms:3600000}",
+            initialDelayString = "${meeting.participant-count.reconcile-initial-delay-ms:60000}")
+    public void reconcile() {
+        long maxId = meetingRepository.findMaxId();
+        int total = 0;
+        for (long fromId = 0; fromId < maxId; fromId += batchSize) {
+            try {
+                total += meetingRepository.reconcileParticipantCounts(fromId, fromId + batchSize);
+            } catch (DataAccessException e) {
+                // 참가/취소와 락이 겹친 구간은 다음 주기에 다시 보정
+                log.warn("참가자 수 보정 실패 (id {} ~ {}): {}", fromId + 1, fromId + batchSize, e.getMessage());
+            }
+        }
+
+        if (total > 0) {
+            meetingListCache.invalidate();
+            log.info("참가자 수가 어긋난 미팅 {}건 보정", total);
+        }
+
+        long maxScheduleId = scheduleRepository.findMaxId();
+        int schedules = 0;
+        for (long fromId = 0; fromId < maxScheduleId; fromId += batchSize) {
+            try {
+                schedules += scheduleRepository.reconcileAttendeeCounts(fromId, fromId + batchSize);
+            } catch (DataAccessException e) {
+                log.warn("일정 참가자 수 보정 실패 (id {} ~ {}): {}", fromId + 1, fromId + batchSize, e.getMessage());
+            }
+        }
+
+        if (schedules > 0) {
+            log.info("참가자 수가 어긋난 일정 {}건 보정", schedules);
+        }
+    }
+}
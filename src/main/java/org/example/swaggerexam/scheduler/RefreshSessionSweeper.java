@@ -0,0 +1,37 @@
+package org.example.swaggerexam.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.swaggerexam.repository.RefreshSessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// 만료된 REFRESH 세션을 배치 단위로 정리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshSessionSweeper {
+
+    private final RefreshSessionRepository refreshSessionRepository;
+
+    @Value("${auth.refresh-session.sweep-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${auth.refresh-session.sweep-interval-ms:600000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshSessionRepository.deleteExpired(now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            log.info("만료된 REFRESH 세션 {}건 삭제", total);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.swaggerexam.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.swaggerexam.repository.ScheduleRepository;
+import org.example.swaggerexam.repository.ScheduleRepository.LegacyScheduleTime;
+import org.example.swaggerexam.util.ScheduleTimes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// date/time 문자열만 있는 기존 일정에 start_at/end_at/time_zone 채우기 (기동 시 1회, 해석할 수 없는 행은 건너뜀)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleTimeBackfill {
+
+    private final ScheduleRepository scheduleRepository;
+
+    @Value("${schedule.time-backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0L;
+        int updated = 0;
+        int skipped = 0;
+
+        List<LegacyScheduleTime> rows;
+        do {
+            rows = scheduleRepository.findLegacyTimes(afterId, PageRequest.of(0, batchSize));
+            for (LegacyScheduleTime row : rows) {
+                afterId = row.getId();
+                try {
+                    ScheduleTimes.Resolved times = ScheduleTimes.resolve(null, null, null, row.getDate(), row.getTime());
+                    updated += scheduleRepository.backfillTimes(row.getId(), times.startAt(), times.endAt(), times.timeZone());
+                } catch (IllegalArgumentException e) {
+                    skipped++;
+                    log.warn("일정 {} 시각 변환 실패 (date={}, time={})", row.getId(), row.getDate(), row.getTime());
+                }
+            }
+        } while (rows.size() == batchSize);
+
+        if (updated > 0 || skipped > 0) {
+            log.info("기존 일정 시각 변환: {}건 완료, {}건 건너뜀", updated, skipped);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.swaggerexam.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.swaggerexam.repository.MeetingWaitlistRepository;
+import org.example.swaggerexam.service.MeetingWaitlistService;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 자리가 생긴 미팅의 대기자를 배치 단위로 참가자로 승격
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistPromoter {
+
+    private final MeetingWaitlistService meetingWaitlistService;
+    private final MeetingWaitlistRepository meetingWaitlistRepository;
+
+    // 참가 취소 등으로 신호가 들어온 미팅만 처리
+    @Scheduled(fixedDelayString = "${meeting.waitlist.promote-interval-ms:1000}")
+    public void promoteSignaled() {
+        for (Long meetingId : meetingWaitlistService.drainSignals()) {
+            promoteAll(meetingId);
+        }
+    }
+
+    // 신호를 놓친 경우(다른 인스턴스에서 취소, 승격 실패 등)를 위한 주기적 보정
+    @Scheduled(fixedDelayString = "${meeting.waitlist.sweep-interval-ms:60000}")
+    public void sweep() {
+        for (Long meetingId : meetingWaitlistRepository.findMeetingIdsWithFreeSeats()) {
+            promoteAll(meetingId);
+        }
+    }
+
+    private void promoteAll(Long meetingId) {
+        int batchSize = meetingWaitlistService.getBatchSize();
+        try {
+            // 배치를 꽉 채워 처리했으면 대기자가 더 있을 수 있으므로 이어서 처리
+            while (meetingWaitlistService.promote(meetingId) == batchSize) {
+                // 다음 배치
+            }
+        } catch (DataAccessException e) {
+            // 직접 참가와 겹친 경우 등은 배치 전체가 롤백되고 다음 보정 주기에 다시 시도
+            log.warn("미팅 {} 대기자 승격 실패: {}", meetingId, e.getMessage());
+        }
+    }
+}
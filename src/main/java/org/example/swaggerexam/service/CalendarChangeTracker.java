@@ -0,0 +1,169 @@
+package org.example.swaggerexam.service;
+
+import org.example.swaggerexam.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 캘린더(ICS) 피드 변경 기록.
+ * 피드(미팅별 / 사용자별)마다 마지막 변경 번호(version)와 최근 변경 일정 목록을 메모리에 두고,
+ * ETag 와 동기화 토큰을 version 만으로 계산하므로 변경이 없으면 DB 를 전혀 보지 않고 304 를 돌려줄 수 있다.
+ *
+ * 변경 번호는 기동할 때마다(또는 피드 수가 상한을 넘어 기록을 비울 때) 바뀌는 epoch 와 함께 쓰므로,
+ * 재시작 이전에 받은 ETag / 토큰은 일치하지 않아 전체 피드를 다시 받는다.
+ */
+@Component
+public class CalendarChangeTracker {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHashMap<String, Feed> feeds = new ConcurrentHashMap<>();
+    private final int maxFeeds;
+    private final int maxChangesPerFeed;
+
+    private volatile String epoch = newEpoch();
+
+    public CalendarChangeTracker(@Value("${calendar.changes.max-feeds:100000}") int maxFeeds,
+                                 @Value("${calendar.changes.max-per-feed:200}") int maxChangesPerFeed) {
+        this.maxFeeds = maxFeeds;
+        this.maxChangesPerFeed = maxChangesPerFeed;
+    }
+
+    public static String meetingFeed(Long meetingId) {
+        return "m" + meetingId;
+    }
+
+    public static String userFeed(Long userId) {
+        return "u" + userId;
+    }
+
+    // 기동(또는 epoch 변경) 이후 변경이 기록된 피드인지. 기록이 없는 피드는 version 0 이라 존재하지 않는 대상과 구분되지 않는다
+    public boolean isTracked(String feed) {
+        return feeds.containsKey(feed);
+    }
+
+    public String etag(String feed) {
+        return "\"c" + epoch + "-" + version(feed) + "\"";
+    }
+
+    public String syncToken(String feed) {
+        return epoch + "." + version(feed);
+    }
+
+    /**
+     * 토큰 이후 바뀐 일정 (일정 id -> 삭제 여부, 같은 일정은 마지막 변경만).
+     * 토큰이 다른 epoch 이거나 그 사이 기록이 잘려 나갔으면 empty (전체 피드로 다시 동기화).
+     */
+    public Optional<Map<Long, Boolean>> changesSince(String feed, String token) {
+        int separator = token == null ? -1 : token.lastIndexOf('.');
+        if (separator < 0 || !token.substring(0, separator).equals(epoch)) {
+            return Optional.empty();
+        }
+        long since;
+        try {
+            since = Long.parseLong(token.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+
+        Feed state = feeds.get(feed);
+        if (state == null) {
+            return since == 0 ? Optional.of(Map.of()) : Optional.empty();
+        }
+        synchronized (state) {
+            if (since < state.completeSince || since > state.version) {
+                return Optional.empty();
+            }
+            Map<Long, Boolean> changes = new LinkedHashMap<>();
+            for (Change change : state.changes) {
+                if (change.seq > since) {
+                    changes.remove(change.scheduleId);
+                    changes.put(change.scheduleId, change.removed);
+                }
+            }
+            return Optional.of(changes);
+        }
+    }
+
+    // 아래 기록은 모두 현재 트랜잭션이 커밋된 뒤에 반영 (커밋 전 데이터로 version 이 올라가지 않도록)
+    public void changed(String feed, Long scheduleId) {
+        TransactionCallbacks.afterCommit(() -> record(feed, scheduleId, false));
+    }
+
+    public void removed(String feed, Long scheduleId) {
+        TransactionCallbacks.afterCommit(() -> record(feed, scheduleId, true));
+    }
+
+    public void changed(Collection<String> feeds, Long scheduleId, boolean removed) {
+        List<String> targets = List.copyOf(feeds);
+        TransactionCallbacks.afterCommit(() -> targets.forEach(feed -> record(feed, scheduleId, removed)));
+    }
+
+    // 개별 일정을 알 수 없는 큰 변경 (미팅 삭제 등): 기존 토큰은 모두 전체 동기화로
+    public void reset(Collection<String> feeds) {
+        List<String> targets = List.copyOf(feeds);
+        TransactionCallbacks.afterCommit(() -> targets.forEach(feed -> {
+            Feed state = feedOf(feed);
+            synchronized (state) {
+                state.version = sequence.incrementAndGet();
+                state.completeSince = state.version;
+                state.changes.clear();
+            }
+        }));
+    }
+
+    // 대상 자체가 사라진 피드 (미팅 삭제): 기록을 지워 이후 요청은 존재 여부부터 다시 확인하게 한다
+    public void forget(String feed) {
+        TransactionCallbacks.afterCommit(() -> feeds.remove(feed));
+    }
+
+    private long version(String feed) {
+        Feed state = feeds.get(feed);
+        return state == null ? 0L : state.version;
+    }
+
+    private void record(String feed, Long scheduleId, boolean removed) {
+        Feed state = feedOf(feed);
+        synchronized (state) {
+            long seq = sequence.incrementAndGet();
+            state.version = seq;
+            state.changes.addLast(new Change(seq, scheduleId, removed));
+            if (state.changes.size() > maxChangesPerFeed) {
+                // 잘려 나간 변경 이전의 토큰은 더 이상 증분 동기화할 수 없다
+                state.completeSince = state.changes.removeFirst().seq;
+            }
+        }
+    }
+
+    private Feed feedOf(String feed) {
+        if (feeds.size() >= maxFeeds && !feeds.containsKey(feed)) {
+            // version 이 0 으로 돌아가므로 epoch 도 바꿔서 이전 ETag / 토큰과 겹치지 않게 한다
+            epoch = newEpoch();
+            feeds.clear();
+        }
+        return feeds.computeIfAbsent(feed, key -> new Feed());
+    }
+
+    private static String newEpoch() {
+        return Long.toString(System.currentTimeMillis(), 36) + Integer.toString(ThreadLocalRandom.current().nextInt(1 << 20), 36);
+    }
+
+    // 필드는 자기 자신을 락으로 잡은 상태에서만 접근 (version 은 락 없이도 읽음)
+    private static final class Feed {
+        private volatile long version;
+        private long completeSince;
+        private final ArrayDeque<Change> changes = new ArrayDeque<>();
+    }
+
+    private record Change(long seq, Long scheduleId, boolean removed) {
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.swaggerexam.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.swaggerexam.domain.Meeting;
+import org.example.swaggerexam.dto.CalendarEventDto;
+import org.example.swaggerexam.exception.type.NotFoundException;
+import org.example.swaggerexam.repository.MeetingRepository;
+import org.example.swaggerexam.repository.ScheduleRepository;
+import org.example.swaggerexam.util.IcsWriter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 미팅별 / 사용자별 일정 iCalendar 피드.
+ * 전체 피드는 DB 커서에서 한 행씩 읽어 바로 VEVENT 로 써 내보내고 (MeetingExportService 와 같은 방식),
+ * 증분 피드는 {@link CalendarChangeTracker} 가 기록한 바뀐 일정만 IN 으로 읽고 삭제된 일정은 STATUS:CANCELLED 로 내보낸다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarService {
+
+    private static final int FLUSH_EVERY = 200;
+
+    private final MeetingRepository meetingRepository;
+    private final ScheduleRepository scheduleRepository;
+
+    // 변경 기록이 없는 피드는 304 로 답하기 전에 미팅이 있는지부터 확인 (PK 조회 한 번)
+    @Transactional(readOnly = true)
+    public void checkMeeting(Long meetingId) {
+        if (!meetingRepository.existsById(meetingId)) {
+            throw new NotFoundException("미팅이 존재하지 않습니다.");
+        }
+    }
+
+    // 스트리밍 시작 전에 (요청 스레드에서) 미팅 확인, 캘린더 이름으로 쓸 미팅 제목 반환
+    @Transactional(readOnly = true)
+    public String meetingTitle(Long meetingId) {
+        return meetingRepository.findById(meetingId)
+                .map(Meeting::getTitle)
+                .orElseThrow(() -> new NotFoundException("미팅이 존재하지 않습니다."));
+    }
+
+    // changes 가 null 이면 전체 피드. 스트림을 다 읽을 때까지 트랜잭션(커넥션)이 열려 있어야 한다
+    @Transactional(readOnly = true)
+    public void writeMeetingFeed(Long meetingId, String calendarName, Map<Long, Boolean> changes, OutputStream out)
+            throws IOException {
+        IcsWriter writer = new IcsWriter(out);
+        writer.begin(calendarName);
+        if (changes == null) {
+            try (Stream<CalendarEventDto> events = scheduleRepository.streamCalendarByMeetingId(meetingId)) {
+                writeAll(writer, events);
+            }
+        } else {
+            writeChanges(writer, changes, scheduleRepository.findCalendarByMeetingIdAndIdIn(meetingId, updatedIds(changes)));
+        }
+        writer.end();
+    }
+
+    @Transactional(readOnly = true)
+    public void writeUserFeed(Long userId, Map<Long, Boolean> changes, OutputStream out) throws IOException {
+        IcsWriter writer = new IcsWriter(out);
+        writer.begin("내 일정");
+        if (changes == null) {
+            try (Stream<CalendarEventDto> events = scheduleRepository.streamCalendarByUserId(userId)) {
+                writeAll(writer, events);
+            }
+        } else {
+            writeChanges(writer, changes, scheduleRepository.findCalendarByUserIdAndIdIn(userId, updatedIds(changes)));
+        }
+        writer.end();
+    }
+
+    private void writeAll(IcsWriter writer, Stream<CalendarEventDto> events) throws IOException {
+        int written = 0;
+        Iterator<CalendarEventDto> iterator = events.iterator();
+        while (iterator.hasNext()) {
+            writer.event(iterator.next());
+            if (++written % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+    }
+
+    // 바뀐 일정 중 더 이상 피드에 속하지 않는 것(삭제, 탈퇴, 시각 없음)은 취소로 내보낸다
+    private void writeChanges(IcsWriter writer, Map<Long, Boolean> changes, List<CalendarEventDto> updated)
+            throws IOException {
+        Set<Long> present = updated.stream().map(CalendarEventDto::getScheduleId).collect(Collectors.toSet());
+        for (CalendarEventDto event : updated) {
+            writer.event(event);
+        }
+        for (Long scheduleId : changes.keySet()) {
+            if (!present.contains(scheduleId)) {
+                writer.cancelled(scheduleId);
+            }
+        }
+    }
+
+    // IN 조회 대상 (삭제 기록만 있으면 빈 목록 대신 조회되지 않을 값 하나)
+    private static List<Long> updatedIds(Map<Long, Boolean> changes) {
+        List<Long> ids = changes.entrySet().stream()
+                .filter(change -> !change.getValue())
+                .map(Map.Entry::getKey)
+                .toList();
+        return ids.isEmpty() ? List.of(-1L) : ids;
+    }
+}
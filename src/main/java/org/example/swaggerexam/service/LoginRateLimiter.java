@@ -0,0 +1,140 @@
+package org.example.swaggerexam.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 로그인/회원가입 요청 제한 (계정별 + 클라이언트 주소별 토큰 버킷).
+ * 버킷은 키 해시로 고른 스트라이프(접근 순서 LinkedHashMap)에 두고 그 스트라이프만 잠그므로 서로 다른 키끼리는 경합하지 않는다.
+ * 오래 쓰이지 않은 버킷은 주기적으로 제거하고, 스트라이프가 가득 차면 그 안에서 가장 오래 쓰이지 않은 버킷을 바로 밀어낸다.
+ * (무작위 키를 대량으로 보내도 새 키가 공용 버킷을 나눠 쓰는 일은 없으므로 다른 사용자의 로그인이 막히지 않는다)
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final int STRIPES = 64; // 2의 거듭제곱
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    private final int accountCapacity;
+    private final double accountRefillPerMillis;
+    private final int addressCapacity;
+    private final double addressRefillPerMillis;
+    private final long idleEvictMillis;
+
+    public LoginRateLimiter(@Value("${rate-limit.login.account.capacity:5}") int accountCapacity,
+                            @Value("${rate-limit.login.account.refill-per-minute:5}") int accountRefillPerMinute,
+                            @Value("${rate-limit.login.address.capacity:20}") int addressCapacity,
+                            @Value("${rate-limit.login.address.refill-per-minute:20}") int addressRefillPerMinute,
+                            @Value("${rate-limit.login.idle-evict-ms:600000}") long idleEvictMillis,
+                            @Value("${rate-limit.login.max-buckets:100000}") int maxBuckets) {
+        int stripeCapacity = Math.max(1, (maxBuckets + STRIPES - 1) / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+        this.accountCapacity = accountCapacity;
+        this.accountRefillPerMillis = accountRefillPerMinute / 60_000.0;
+        this.addressCapacity = addressCapacity;
+        this.addressRefillPerMillis = addressRefillPerMinute / 60_000.0;
+        this.idleEvictMillis = idleEvictMillis;
+    }
+
+    // 주소 버킷 -> 계정 버킷 순서로 차감, 하나라도 비어 있으면 거절
+    public boolean tryAcquire(String email, String clientAddress) {
+        long now = System.currentTimeMillis();
+        if (clientAddress != null
+                && !tryConsume("addr:" + clientAddress, addressCapacity, addressRefillPerMillis, now)) {
+            return false;
+        }
+        return email == null
+                || tryConsume("acct:" + email.trim().toLowerCase(Locale.ROOT), accountCapacity, accountRefillPerMillis, now);
+    }
+
+    // 다시 시도할 수 있을 때까지의 대략적인 시간 (Retry-After)
+    public long retryAfterSeconds() {
+        double slowestRefill = Math.min(accountRefillPerMillis, addressRefillPerMillis);
+        return Math.max(1L, (long) Math.ceil(1.0 / slowestRefill / 1000.0));
+    }
+
+    private boolean tryConsume(String key, int capacity, double refillPerMillis, long now) {
+        Stripe stripe = stripes[stripe(key)];
+        synchronized (stripe) {
+            TokenBucket bucket = stripe.get(key);
+            if (bucket == null) {
+                bucket = new TokenBucket(capacity, now);
+                stripe.put(key, bucket); // 가득 차면 가장 오래 쓰이지 않은 버킷이 밀려난다
+            }
+            return bucket.tryConsume(capacity, refillPerMillis, now);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.login.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleEvictMillis;
+        int before = 0;
+        int after = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                before += stripe.size();
+                stripe.values().removeIf(bucket -> bucket.lastAccessAt < threshold);
+                after += stripe.size();
+            }
+        }
+        if (before != after) {
+            log.debug("유휴 요청 제한 버킷 정리: {}개 -> {}개", before, after);
+        }
+    }
+
+    private static int stripe(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+
+    // 키 -> 버킷 (접근 순서). 자기 자신을 락으로 잡은 상태에서만 접근
+    private static final class Stripe extends LinkedHashMap<String, TokenBucket> {
+        private final int capacity;
+
+        private Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    // 필드는 해당 키의 스트라이프 락 안에서만 읽고 쓴다
+    private static final class TokenBucket {
+        private double tokens;
+        private long lastRefillAt;
+        private long lastAccessAt;
+
+        private TokenBucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.lastRefillAt = now;
+            this.lastAccessAt = now;
+        }
+
+        private boolean tryConsume(int capacity, double refillPerMillis, long now) {
+            if (now > lastRefillAt) {
+                tokens = Math.min(capacity, tokens + (now - lastRefillAt) * refillPerMillis);
+                lastRefillAt = now;
+            }
+            lastAccessAt = now;
+            if (tokens < 1.0) {
+                return false;
+            }
+            tokens -= 1.0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.swaggerexam.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.swaggerexam.dto.CursorPageDto;
+import org.example.swaggerexam.dto.MyMeetingResponseDto;
+import org.example.swaggerexam.dto.MyScheduleResponseDto;
+import org.example.swaggerexam.dto.ScheduleConflictDto;
+import org.example.swaggerexam.jwt.dto.CustomUserDetails;
+import org.example.swaggerexam.repository.MeetingRepository;
+import org.example.swaggerexam.repository.ScheduleRepository;
+import org.example.swaggerexam.util.LoginUsers;
+import org.example.swaggerexam.util.PageSizes;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 로그인 사용자의 모임/일정 목록.
+ * "내가 만든 것"(owner_id 인덱스)과 "내가 참가한 것"(참가자 테이블의 user_id 인덱스)을 각각 id 내림차순 키셋으로 size + 1 건씩 읽고
+ * 합쳐서 한 페이지를 만든다. OR 조건 하나로 조회하면 어느 인덱스도 쓰지 못하기 때문.
+ */
+@Service
+@RequiredArgsConstructor
+public class MeService {
+
+    private final MeetingRepository meetingRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleConflictIndex scheduleConflictIndex;
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<MyMeetingResponseDto> myMeetings(CustomUserDetails loginUser, Long cursor, int size) {
+        Long userId = LoginUsers.requireId(loginUser);
+        int pageSize = PageSizes.normalize(size);
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        return merge(meetingRepository.findOwnedPage(userId, before, limit),
+                meetingRepository.findJoinedPage(userId, before, limit),
+                pageSize, MyMeetingResponseDto::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<MyScheduleResponseDto> mySchedules(CustomUserDetails loginUser, Long cursor, int size) {
+        Long userId = LoginUsers.requireId(loginUser);
+        int pageSize = PageSizes.normalize(size);
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        return merge(scheduleRepository.findOwnedPage(userId, before, limit),
+                scheduleRepository.findJoinedPage(userId, before, limit),
+                pageSize, MyScheduleResponseDto::getId);
+    }
+
+    // 참가한 일정 중 시간이 겹치는 쌍 (먼저 시작한 일정 순)
+    @Transactional(readOnly = true)
+    public List<ScheduleConflictDto> myConflicts(CustomUserDetails loginUser) {
+        Long userId = LoginUsers.requireId(loginUser);
+
+        List<ScheduleConflictIndex.Conflict> conflicts = scheduleConflictIndex.findConflicts(userId);
+        if (conflicts.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> ids = new HashSet<>();
+        conflicts.forEach(conflict -> {
+            ids.add(conflict.first().scheduleId());
+            ids.add(conflict.second().scheduleId());
+        });
+        Map<Long, String> titles = new HashMap<>();
+        scheduleRepository.findTitlesByIdIn(ids).forEach(row -> titles.put(row.getId(), row.getTitle()));
+
+        List<ScheduleConflictDto> result = new ArrayList<>(conflicts.size());
+        for (ScheduleConflictIndex.Conflict conflict : conflicts) {
+            ScheduleConflictIndex.Interval first = conflict.first();
+            ScheduleConflictIndex.Interval second = conflict.second();
+            Instant overlapEnd = first.endAt().isBefore(second.endAt()) ? first.endAt() : second.endAt();
+            result.add(new ScheduleConflictDto(first.scheduleId(), titles.get(first.scheduleId()),
+                    second.scheduleId(), titles.get(second.scheduleId()), second.startAt(), overlapEnd));
+        }
+        return result;
+    }
+
+    // id 내림차순인 두 목록을 합치면서 중복(만들고 참가도 한 경우) 제거
+    private static <T> CursorPageDto<T> merge(List<T> owned, List<T> joined, int size, Function<T, Long> idOf) {
+        List<T> merged = new ArrayList<>(size + 1);
+        int i = 0;
+        int j = 0;
+        Long lastId = null;
+        while (merged.size() <= size && (i < owned.size() || j < joined.size())) {
+            T next;
+            if (j >= joined.size() || (i < owned.size() && idOf.apply(owned.get(i)) >= idOf.apply(joined.get(j)))) {
+                next = owned.get(i++);
+            } else {
+                next = joined.get(j++);
+            }
+            Long id = idOf.apply(next);
+            if (!id.equals(lastId)) {
+                merged.add(next);
+                lastId = id;
+            }
+        }
+        return CursorPageDto.of(merged, size, item -> String.valueOf(idOf.apply(item)));
+    }
+
+}
@@ -0,0 +1,79 @@
+package org.example.swaggerexam.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.swaggerexam.exception.type.ForbiddenException;
+import org.example.swaggerexam.jwt.dto.CustomUserDetails;
+import org.example.swaggerexam.repository.MeetingParticipantRepository;
+import org.example.swaggerexam.repository.MeetingRepository;
+import org.example.swaggerexam.repository.ScheduleRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 미팅 참가자/일정 NDJSON 내보내기.
+ * DB 커서에서 한 행씩 읽어 바로 JSON 으로 써 내보내므로 미팅 크기와 상관없이 메모리 사용량이 일정하다.
+ * (DTO 프로젝션이라 영속성 컨텍스트에도 엔티티가 쌓이지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class MeetingExportService {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingParticipantRepository meetingParticipantRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ObjectMapper objectMapper;
+
+    // 스트리밍 시작 전에 (요청 스레드에서) 미팅 생성자인지 확인
+    @Transactional(readOnly = true)
+    public void checkOwner(Long meetingId, CustomUserDetails loginUser) {
+        if (loginUser == null) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        }
+        Long ownerId = meetingRepository.findOwnerIdById(meetingId)
+                .orElseThrow(() -> new IllegalArgumentException("미팅이 존재하지 않습니다."));
+        if (!ownerId.equals(loginUser.getId())) {
+            throw new ForbiddenException("생성자만 내보낼 수 있습니다.");
+        }
+    }
+
+    // 스트림을 다 읽을 때까지 트랜잭션(커넥션)이 열려 있어야 한다
+    @Transactional(readOnly = true)
+    public void exportParticipants(Long meetingId, OutputStream out) throws IOException {
+        try (Stream<?> rows = meetingParticipantRepository.streamByMeetingId(meetingId)) {
+            write(rows, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportSchedules(Long meetingId, OutputStream out) throws IOException {
+        try (Stream<?> rows = scheduleRepository.streamExportRowsByMeetingId(meetingId)) {
+            write(rows, out);
+        }
+    }
+
+    private void write(Stream<?> rows, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            int written = 0;
+            Iterator<?> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                generator.writeRaw('\n');
+                if (++written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        }
+    }
+}
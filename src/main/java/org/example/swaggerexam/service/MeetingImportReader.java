@@ -0,0 +1,154 @@
+package org.example.swaggerexam.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.swaggerexam.dto.MeetingImportRowDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 일괄 등록 본문을 한 줄씩 읽어 행으로 바꾸는 반복자 (본문 전체를 메모리에 올리지 않음).
+ * NDJSON 은 줄마다 JSON 객체 하나, CSV 는 첫 줄 헤더의 컬럼명(type,ref,name,description,maxParticipants,meeting,email)으로 값을 매핑한다.
+ * 파싱에 실패한 줄은 error 가 채워진 행으로 돌려주고 다음 줄을 계속 읽는다.
+ */
+class MeetingImportReader implements Iterator<MeetingImportRowDto> {
+
+    enum Format {
+        NDJSON, CSV
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+
+    private List<String> header;
+    private long row;
+    private MeetingImportRowDto next;
+
+    MeetingImportReader(BufferedReader reader, Format format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public MeetingImportRowDto next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        MeetingImportRowDto current = next;
+        next = null;
+        return current;
+    }
+
+    private MeetingImportRowDto readNext() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && header == null) {
+                    header = new ArrayList<>();
+                    for (String column : parseCsvLine(line)) {
+                        header.add(column.trim().toLowerCase(Locale.ROOT));
+                    }
+                    continue;
+                }
+                row++;
+                return format == Format.CSV ? fromCsv(line) : fromJson(line);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MeetingImportRowDto fromJson(String line) {
+        MeetingImportRowDto dto;
+        try {
+            dto = objectMapper.readValue(line, MeetingImportRowDto.class);
+        } catch (JsonProcessingException e) {
+            dto = new MeetingImportRowDto();
+            dto.setError("JSON 형식이 올바르지 않습니다.");
+        }
+        dto.setRow(row);
+        return dto;
+    }
+
+    private MeetingImportRowDto fromCsv(String line) {
+        MeetingImportRowDto dto = new MeetingImportRowDto();
+        dto.setRow(row);
+
+        List<String> values = parseCsvLine(line);
+        Map<String, String> columns = new HashMap<>();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            String value = values.get(i).trim();
+            columns.put(header.get(i), value.isEmpty() ? null : value);
+        }
+
+        dto.setType(columns.get("type"));
+        dto.setRef(columns.get("ref"));
+        dto.setName(columns.get("name"));
+        dto.setDescription(columns.get("description"));
+        dto.setMeeting(columns.get("meeting"));
+        dto.setEmail(columns.get("email"));
+        String maxParticipants = columns.get("maxparticipants");
+        if (maxParticipants != null) {
+            try {
+                dto.setMaxParticipants(Integer.valueOf(maxParticipants));
+            } catch (NumberFormatException e) {
+                dto.setError("maxParticipants 는 숫자여야 합니다.");
+            }
+        }
+        return dto;
+    }
+
+    // 큰따옴표로 감싼 값("a,b", "" 이스케이프)을 지원하는 한 줄 CSV 파서 (값 안의 줄바꿈은 지원하지 않음)
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.swaggerexam.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.swaggerexam.dto.MeetingImportResultDto;
+import org.example.swaggerexam.dto.MeetingImportRowDto;
+import org.example.swaggerexam.jwt.dto.CustomUserDetails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모임/참가자 일괄 등록.
+ * 요청 본문을 한 줄씩 읽어 batch-size 행마다 MeetingImportWriter 로 저장하고, 저장된 묶음의 행별 결과를 바로 NDJSON 으로 흘려보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeetingImportService {
+
+    private final MeetingImportWriter meetingImportWriter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${meeting.import.batch-size:500}")
+    private int batchSize;
+
+    public void importStream(InputStream in, boolean csv, CustomUserDetails loginUser, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        MeetingImportReader rows = new MeetingImportReader(reader,
+                csv ? MeetingImportReader.Format.CSV : MeetingImportReader.Format.NDJSON, objectMapper);
+
+        Map<String, Long> refs = new HashMap<>();
+        Map<Long, Long> meetingOwners = new HashMap<>();
+        List<MeetingImportRowDto> batch = new ArrayList<>(batchSize);
+
+        while (rows.hasNext()) {
+            batch.add(rows.next());
+            if (batch.size() == batchSize) {
+                writeBatch(batch, loginUser.getId(), refs, meetingOwners, out);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, loginUser.getId(), refs, meetingOwners, out);
+        }
+    }
+
+    private void writeBatch(List<MeetingImportRowDto> batch, Long ownerId, Map<String, Long> refs,
+                            Map<Long, Long> meetingOwners, OutputStream out) throws IOException {
+        List<MeetingImportResultDto> results;
+        try {
+            MeetingImportWriter.Batch written = meetingImportWriter.write(batch, ownerId, refs, meetingOwners);
+            refs.putAll(written.getRefs()); // 커밋된 묶음의 ref / 모임만 다음 묶음에서 참조 가능
+            meetingOwners.putAll(written.getMeetingOwners());
+            results = written.getResults();
+        } catch (RuntimeException e) {
+            // 묶음 전체가 롤백됨 (동시 참가와의 중복 등). 다음 묶음은 계속 진행
+            log.warn("모임 일괄 등록 묶음 저장 실패 ({} ~ {}행): {}",
+                    batch.get(0).getRow(), batch.get(batch.size() - 1).getRow(), e.getMessage());
+            results = new ArrayList<>(batch.size());
+            for (MeetingImportRowDto row : batch) {
+                results.add(MeetingImportResultDto.error(row.getRow(),
+                        row.getError() != null ? row.getError() : "저장 실패로 이 묶음은 반영되지 않았습니다."));
+            }
+        }
+
+        for (MeetingImportResultDto result : results) {
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write('\n');
+        }
+        out.flush();
+    }
+}
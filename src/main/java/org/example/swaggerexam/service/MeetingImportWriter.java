@@ -0,0 +1,210 @@
+package org.example.swaggerexam.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.swaggerexam.domain.Meeting;
+import org.example.swaggerexam.domain.MeetingParticipant;
+import org.example.swaggerexam.dto.MeetingImportResultDto;
+import org.example.swaggerexam.dto.MeetingImportRowDto;
+import org.example.swaggerexam.dto.MeetingRequestDto;
+import org.example.swaggerexam.repository.MeetingParticipantRepository;
+import org.example.swaggerexam.repository.MeetingRepository;
+import org.example.swaggerexam.repository.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 모임 일괄 등록의 한 묶음(batch)을 한 트랜잭션으로 저장.
+ * 모임 INSERT -> 좌석 선점(조건부 UPDATE) -> 참가자 INSERT 순서로 모아서 실행하므로 INSERT 는 JDBC 배치로 나간다.
+ * 행 단위 검증 실패는 해당 행만 ERROR 로 표시하고, DB 오류는 묶음 전체를 롤백한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MeetingImportWriter {
+
+    private static final long NO_MEETING = -1L;
+
+    private final MeetingService meetingService;
+    private final MeetingRepository meetingRepository;
+    private final MeetingParticipantRepository meetingParticipantRepository;
+    private final UserRepository userRepository;
+    private final MeetingListCache meetingListCache;
+    private final MeetingSearchIndex meetingSearchIndex;
+
+    @Getter
+    public static class Batch {
+        private final List<MeetingImportResultDto> results = new ArrayList<>();
+        private final Map<String, Long> refs = new HashMap<>(); // 이번 묶음에서 생성된 ref -> 모임 id
+        private final Map<Long, Long> meetingOwners = new HashMap<>(); // 이번 묶음에서 생성된 모임 id -> owner id
+    }
+
+    /**
+     * @param refs          앞선 묶음에서 생성된 ref -> 모임 id
+     * @param meetingOwners 기존 모임 id -> owner id 조회 결과 캐시 (요청 단위로 재사용)
+     */
+    @Transactional
+    public Batch write(List<MeetingImportRowDto> rows, Long ownerId,
+                       Map<String, Long> refs, Map<Long, Long> meetingOwners) {
+        Batch batch = new Batch();
+        MeetingImportResultDto[] results = new MeetingImportResultDto[rows.size()];
+
+        // 1. 모임 생성 (id 는 미리 할당되므로 INSERT 는 flush 시점에 한 번에)
+        List<Meeting> meetings = new ArrayList<>();
+        List<Integer> meetingRows = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            MeetingImportRowDto row = rows.get(i);
+            if (row.getError() != null) {
+                results[i] = MeetingImportResultDto.error(row.getRow(), row.getError());
+            } else if (MeetingImportRowDto.TYPE_MEETING.equalsIgnoreCase(row.getType())) {
+                String error = validateMeeting(row, refs, batch.refs);
+                if (error != null) {
+                    results[i] = MeetingImportResultDto.error(row.getRow(), error);
+                    continue;
+                }
+                Meeting meeting = new Meeting();
+                meeting.setTitle(row.getName());
+                meeting.setDescription(row.getDescription());
+                meeting.setMaxParticipants(row.getMaxParticipants());
+                meeting.setOwner(userRepository.getReferenceById(ownerId));
+                meetings.add(meeting);
+                meetingRows.add(i);
+                if (row.getRef() != null) {
+                    batch.refs.put(row.getRef(), NO_MEETING); // id 는 저장 후 채움
+                }
+            } else if (!MeetingImportRowDto.TYPE_PARTICIPANT.equalsIgnoreCase(row.getType())) {
+                results[i] = MeetingImportResultDto.error(row.getRow(), "type 은 meeting 또는 participant 여야 합니다.");
+            }
+        }
+
+        meetingRepository.saveAll(meetings);
+        meetingRepository.flush(); // 좌석 선점 UPDATE 가 새 모임 행을 볼 수 있도록
+        for (int k = 0; k < meetings.size(); k++) {
+            Meeting meeting = meetings.get(k);
+            MeetingImportRowDto row = rows.get(meetingRows.get(k));
+            if (row.getRef() != null) {
+                batch.refs.put(row.getRef(), meeting.getId());
+            }
+            batch.meetingOwners.put(meeting.getId(), ownerId); // 롤백되면 버려지도록 커밋 후에만 요청 캐시에 합침
+            results[meetingRows.get(k)] = new MeetingImportResultDto(
+                    row.getRow(), MeetingImportResultDto.CREATED, meeting.getId(), null);
+        }
+
+        // 2. 참가자: 이메일 -> 사용자 id 를 한 번에 조회
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (results[i] == null && rows.get(i).getEmail() != null) {
+                emails.add(rows.get(i).getEmail());
+            }
+        }
+        Map<String, Long> userIds = new HashMap<>();
+        if (!emails.isEmpty()) {
+            for (UserRepository.UserIdentity user : userRepository.findIdentitiesByEmailIn(emails)) {
+                userIds.put(user.getEmail(), user.getId());
+            }
+        }
+
+        // 3. 좌석 선점 (참가자 INSERT 전에 모두 끝내서 INSERT 배치가 중간에 flush 되지 않도록)
+        Map<Long, Set<Long>> joined = new HashMap<>();
+        List<MeetingParticipant> participants = new ArrayList<>();
+        List<Integer> participantRows = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            MeetingImportRowDto row = rows.get(i);
+            Long meetingId = resolveMeeting(row.getMeeting(), refs, batch.refs);
+            Long meetingOwnerId = meetingId == null ? null : ownerOf(meetingId, meetingOwners, batch.meetingOwners);
+            Long userId = row.getEmail() == null ? null : userIds.get(row.getEmail());
+
+            if (meetingOwnerId == null) {
+                results[i] = MeetingImportResultDto.error(row.getRow(), "모임을 찾을 수 없음");
+            } else if (!meetingOwnerId.equals(ownerId)) {
+                results[i] = MeetingImportResultDto.error(row.getRow(), "생성자만 참가자를 등록할 수 있습니다.");
+            } else if (userId == null) {
+                results[i] = MeetingImportResultDto.error(row.getRow(), "사용자를 찾을 수 없음");
+            } else if (!joinedUsers(meetingId, userIds.values(), joined).add(userId)) {
+                results[i] = MeetingImportResultDto.error(row.getRow(), "이미 참가한 미팅");
+            } else if (meetingRepository.incrementParticipantCount(meetingId) == 0) {
+                results[i] = MeetingImportResultDto.error(row.getRow(), "모임 정원 초과");
+            } else {
+                participants.add(MeetingParticipant.builder()
+                        .meeting(meetingRepository.getReferenceById(meetingId))
+                        .user(userRepository.getReferenceById(userId))
+                        .status(MeetingParticipant.Status.ATTENDING)
+                        .role(userId.equals(ownerId) ? MeetingParticipant.Role.OWNER : MeetingParticipant.Role.PARTICIPANT)
+                        .build());
+                participantRows.add(i);
+            }
+        }
+
+        meetingParticipantRepository.saveAll(participants);
+        for (int k = 0; k < participants.size(); k++) {
+            int i = participantRows.get(k);
+            results[i] = new MeetingImportResultDto(
+                    rows.get(i).getRow(), MeetingImportResultDto.JOINED, participants.get(k).getId(), null);
+        }
+
+        if (!meetings.isEmpty() || !participants.isEmpty()) {
+            meetingListCache.invalidate();
+        }
+        for (Meeting meeting : meetings) {
+            meetingSearchIndex.update(meeting.getId(), meeting.getTitle(), meeting.getDescription());
+        }
+
+        batch.results.addAll(List.of(results));
+        return batch;
+    }
+
+    // MeetingService.validate 와 같은 규칙 + ref 중복 검사
+    private String validateMeeting(MeetingImportRowDto row, Map<String, Long> refs, Map<String, Long> batchRefs) {
+        try {
+            meetingService.validate(new MeetingRequestDto(row.getName(), row.getDescription(), row.getMaxParticipants()));
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        if (row.getRef() != null && (refs.containsKey(row.getRef()) || batchRefs.containsKey(row.getRef()))) {
+            return "이미 사용된 ref 입니다: " + row.getRef();
+        }
+        return null;
+    }
+
+    // ref 우선, 없으면 기존 모임 ID
+    private Long resolveMeeting(String meeting, Map<String, Long> refs, Map<String, Long> batchRefs) {
+        if (meeting == null) {
+            return null;
+        }
+        Long id = batchRefs.containsKey(meeting) ? batchRefs.get(meeting) : refs.get(meeting);
+        if (id != null) {
+            return id;
+        }
+        try {
+            return Long.valueOf(meeting);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Long ownerOf(Long meetingId, Map<Long, Long> meetingOwners, Map<Long, Long> batchOwners) {
+        Long created = batchOwners.get(meetingId);
+        if (created != null) {
+            return created;
+        }
+        Long ownerId = meetingOwners.computeIfAbsent(meetingId,
+                id -> meetingRepository.findOwnerIdById(id).orElse(NO_MEETING));
+        return ownerId == NO_MEETING ? null : ownerId;
+    }
+
+    // 모임별 기존 참가자 중 이번 묶음 사용자만 한 번 조회해 두고 묶음 안의 중복 행도 여기에 누적
+    private Set<Long> joinedUsers(Long meetingId, Collection<Long> batchUserIds, Map<Long, Set<Long>> joined) {
+        return joined.computeIfAbsent(meetingId,
+                id -> new HashSet<>(meetingParticipantRepository.findJoinedUserIds(id, batchUserIds)));
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.swaggerexam.service;
+
+import org.example.swaggerexam.util.ETags;
+import org.example.swaggerexam.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모임 목록 응답(JSON 바이트) 캐시.
+ * 모든 페이지는 전역 변경 버전을 포함한 ETag 로 구분되며, 모임/참가자가 바뀌는 쓰기는 커밋 이후 버전을 올리고 캐시를 비운다.
+ * ETag 는 버전만으로 계산되므로 If-None-Match 가 일치하면 DB 를 보지 않고 304 를 돌려줄 수 있다.
+ * 버전은 재시작하면 0 부터 다시 세므로 기동마다 바뀌는 epoch 를 함께 넣어, 재시작 이전에 받은 ETag 가 우연히 일치하지 않게 한다.
+ */
+@Component
+public class MeetingListCache {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36)
+            + Integer.toString(ThreadLocalRandom.current().nextInt(1 << 20), 36);
+    private final AtomicLong version = new AtomicLong();
+    private final ConcurrentHashMap<String, byte[]> pages = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public MeetingListCache(@Value("${meeting.list-cache.max-entries:1000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public String etag(Long cursor, int size) {
+        return "\"m" + epoch + "-" + version.get() + "-" + (cursor == null ? 0L : cursor) + "-" + size + "\"";
+    }
+
+    public boolean matches(String ifNoneMatch, String etag) {
+        return ETags.matches(ifNoneMatch, etag);
+    }
+
+    public byte[] get(String etag) {
+        return pages.get(etag);
+    }
+
+    public void put(String etag, byte[] body) {
+        if (pages.size() >= maxEntries) {
+            return; // 다음 버전 변경 때 비워지므로 그때까지는 캐시하지 않고 매번 조회
+        }
+        pages.put(etag, body);
+    }
+
+    // 현재 트랜잭션이 커밋되면 버전 증가 (커밋 전 데이터가 새 버전으로 캐시되지 않도록)
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(this::bump);
+    }
+
+    private void bump() {
+        version.incrementAndGet();
+        pages.clear();
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.swaggerexam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.swaggerexam.repository.MeetingRepository;
+import org.example.swaggerexam.util.TransactionCallbacks;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 모임 제목/설명 검색용 메모리 역색인.
+ * 단어를 2글자 단위(bigram)로 잘라 색인하므로 띄어쓰기/조사가 붙은 한국어도 부분 일치로 찾을 수 있다. (한 글자 단어는 그대로 색인)
+ * 검색어의 모든 n-gram 을 포함하는 모임만 결과에 포함하고, 제목 일치에 가중치를 둔 점수 순으로 정렬한다.
+ * 기동 시 전체를 한 번 색인하고 이후에는 MeetingService 의 생성/수정/삭제 커밋 시점에 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final MeetingRepository meetingRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // n-gram -> (모임 id -> 가중치)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    // 모임 id -> 색인된 n-gram (수정/삭제 시 기존 항목 제거용)
+    private final Map<Long, Set<String>> documents = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long cursor = 0L;
+        int total = 0;
+        List<MeetingRepository.MeetingText> rows;
+        do {
+            rows = meetingRepository.findTextPageAfter(cursor, PageRequest.of(0, BUILD_BATCH_SIZE));
+            for (MeetingRepository.MeetingText row : rows) {
+                put(row.getId(), row.getTitle(), row.getDescription());
+                cursor = row.getId();
+            }
+            total += rows.size();
+        } while (rows.size() == BUILD_BATCH_SIZE);
+
+        log.info("모임 검색 색인 생성: 모임 {}건, n-gram {}개", total, postings.size());
+    }
+
+    // 커밋 이후 색인 반영 (롤백되면 반영하지 않음)
+    public void update(Long meetingId, String title, String description) {
+        TransactionCallbacks.afterCommit(() -> put(meetingId, title, description));
+    }
+
+    public void remove(Long meetingId) {
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(meetingId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 점수 순으로 정렬한 결과 중 [offset, offset + limit) 구간의 모임 id.
+     */
+    public List<Long> search(String query, int offset, int limit) {
+        Set<String> queryGrams = grams(query).keySet();
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+
+        List<long[]> matches = new ArrayList<>(); // {모임 id, 점수}
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(queryGrams.size());
+            for (String gram : queryGrams) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting == null) {
+                    return List.of(); // 모든 n-gram 을 포함해야 하므로 하나라도 없으면 결과 없음
+                }
+                lists.add(posting);
+            }
+            // 가장 짧은 목록을 기준으로 나머지 목록과 교집합
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            Map<Long, Integer> smallest = lists.get(0);
+            for (Map.Entry<Long, Integer> entry : smallest.entrySet()) {
+                long score = entry.getValue();
+                boolean matchesAll = true;
+                for (int i = 1; i < lists.size(); i++) {
+                    Integer weight = lists.get(i).get(entry.getKey());
+                    if (weight == null) {
+                        matchesAll = false;
+                        break;
+                    }
+                    score += weight;
+                }
+                if (matchesAll) {
+                    matches.add(new long[]{entry.getKey(), score});
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 점수 높은 순, 같으면 최근 모임(id 큰 순)
+        matches.sort((a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(b[0], a[0]));
+
+        List<Long> page = new ArrayList<>(Math.min(limit, Math.max(0, matches.size() - offset)));
+        for (int i = offset; i < matches.size() && page.size() < limit; i++) {
+            page.add(matches.get(i)[0]);
+        }
+        return page;
+    }
+
+    private void put(Long meetingId, String title, String description) {
+        Map<String, Integer> weights = new HashMap<>();
+        grams(title).forEach((gram, count) -> weights.merge(gram, count * TITLE_WEIGHT, Integer::sum));
+        grams(description).forEach((gram, count) -> weights.merge(gram, count * DESCRIPTION_WEIGHT, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(meetingId);
+            weights.forEach((gram, weight) -> postings.computeIfAbsent(gram, key -> new HashMap<>()).put(meetingId, weight));
+            documents.put(meetingId, weights.keySet());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 락 안에서 호출
+    private void removeDocument(Long meetingId) {
+        Set<String> grams = documents.remove(meetingId);
+        if (grams == null) {
+            return;
+        }
+        for (String gram : grams) {
+            Map<Long, Integer> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(meetingId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    // 문자/숫자가 이어진 구간을 단어로 보고 단어별 bigram(한 글자 단어는 그대로) 빈도 계산
+    static Map<String, Integer> grams(String text) {
+        Map<String, Integer> grams = new HashMap<>();
+        if (text == null || text.isBlank()) {
+            return grams;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start == 1) {
+                    grams.merge(normalized.substring(start, i), 1, Integer::sum);
+                } else {
+                    for (int j = start; j < i - 1; j++) {
+                        grams.merge(normalized.substring(j, j + 2), 1, Integer::sum);
+                    }
+                }
+                start = -1;
+            }
+        }
+        return grams;
+    }
+}
@@ -5,18 +5,34 @@ import lombok.RequiredArgsConstructor;
 import org.example.swaggerexam.domain.Meeting;
 import org.example.swaggerexam.domain.MeetingParticipant;
 import org.example.swaggerexam.domain.User;
+import org.example.swaggerexam.dto.CursorPageDto;
 import org.example.swaggerexam.dto.MeetingParticipantResponseDto;
 import org.example.swaggerexam.dto.MeetingRequestDto;
 import org.example.swaggerexam.dto.MeetingResponseDto;
-import org.example.swaggerexam.jwt.utill.JwtUtil;
+import org.example.swaggerexam.exception.type.BadRequestException;
+import org.example.swaggerexam.exception.type.ForbiddenException;
+import org.example.swaggerexam.jwt.dto.CustomUserDetails;
 import org.example.swaggerexam.repository.MeetingParticipantRepository;
 import org.example.swaggerexam.repository.MeetingRepository;
+import org.example.swaggerexam.repository.MeetingWaitlistRepository;
 import org.example.swaggerexam.repository.ScheduleParticipantRepository;
+import org.example.swaggerexam.repository.ScheduleRepository;
 import org.example.swaggerexam.repository.UserRepository;
+import org.example.swaggerexam.util.TransactionCallbacks;
+import org.example.swaggerexam.util.LoginUsers;
+import org.example.swaggerexam.util.PageSizes;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -27,15 +43,19 @@ public class MeetingService {
     private final MeetingParticipantRepository meetingParticipantRepository;
     private final MeetingRepository meetingRepository;
     private final UserRepository userRepository;
-    private final JwtUtil jwtUtil;
+    private final MeetingWaitlistService meetingWaitlistService;
+    private final MeetingListCache meetingListCache;
+    private final MeetingSearchIndex meetingSearchIndex;
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleParticipantRepository scheduleParticipantRepository;
+    private final MeetingWaitlistRepository meetingWaitlistRepository;
+    private final ScheduleConflictIndex scheduleConflictIndex;
+    private final CalendarChangeTracker calendarChangeTracker;
 
 
     @Transactional
-    public MeetingResponseDto add(MeetingRequestDto meetingRequestDto, String accessToken) {
-        String email = jwtUtil.validateAccessToken(accessToken);
-        if (email == null) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
+    public MeetingResponseDto add(MeetingRequestDto meetingRequestDto, CustomUserDetails loginUser) {
+        Long userId = LoginUsers.requireId(loginUser);
 
         validate(meetingRequestDto);
 
@@ -45,155 +65,222 @@ public class MeetingService {
         meeting.setMaxParticipants(meetingRequestDto.getMaxParticipants());
 
 
-        User user =  userRepository.findByEmail(email).get();
+        // 필터에서 이미 인증된 사용자이므로 SELECT 없이 참조만 연결
+        meeting.setOwner(userRepository.getReferenceById(userId));
 
-        meeting.setOwner(user);
+        Meeting saved = meetingRepository.save(meeting);
+        meetingListCache.invalidate();
+        meetingSearchIndex.update(saved.getId(), saved.getTitle(), saved.getDescription());
 
-        return MeetingResponseDto.convertToResponseDto(meetingRepository.save(meeting));
+        return MeetingResponseDto.convertToResponseDto(saved, loginUser.getUsername());
     }
 
     @Transactional
-    public List<MeetingResponseDto> list() {
+    public CursorPageDto<MeetingResponseDto> list(Long cursor, int size) {
+        int pageSize = PageSizes.normalize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<MeetingResponseDto> rows = meetingRepository.findPageAfter(
+                cursor == null ? 0L : cursor, PageRequest.of(0, pageSize + 1));
 
-        List<Meeting> all = meetingRepository.findAll();
+        return CursorPageDto.of(rows, pageSize, meeting -> String.valueOf(meeting.getId()));
+    }
 
 
-        return all.stream()
-                .map(MeetingResponseDto::convertToResponseDto)
-                .collect(Collectors.toList());
+    // 제목/설명 검색 (색인에서 점수 순으로 id 를 고르고, 해당 페이지만 한 번에 조회)
+    @Transactional
+    public CursorPageDto<MeetingResponseDto> search(String query, Long cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("검색어를 입력해주세요.");
+        }
+        int pageSize = PageSizes.normalize(size);
+        // cursor 는 다음 페이지의 offset. 음수이거나 offset + pageSize + 1 이 int 범위를 넘으면 잘못된 값
+        if (cursor != null && (cursor < 0 || cursor > Integer.MAX_VALUE - pageSize - 1L)) {
+            throw new BadRequestException("잘못된 cursor 입니다.");
+        }
+        int offset = cursor == null ? 0 : cursor.intValue();
+
+        List<Long> ids = meetingSearchIndex.search(query, offset, pageSize + 1);
+        boolean hasNext = ids.size() > pageSize;
+        if (hasNext) {
+            ids = ids.subList(0, pageSize);
+        }
+
+        Map<Long, MeetingResponseDto> found = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (MeetingResponseDto dto : meetingRepository.findResponsesByIdIn(ids)) {
+                found.put(dto.getId(), dto);
+            }
+        }
+        List<MeetingResponseDto> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            MeetingResponseDto dto = found.get(id);
+            if (dto != null) { // 색인 반영 전에 삭제된 모임은 제외
+                items.add(dto);
+            }
+        }
 
+        return new CursorPageDto<>(items, hasNext ? String.valueOf(offset + pageSize) : null, hasNext);
     }
 
 
     @Transactional
-    public String modify(MeetingRequestDto meetingRequestDto, Long meetingId,  String accessToken) {
+    public String modify(MeetingRequestDto meetingRequestDto, Long meetingId, CustomUserDetails loginUser) {
 
-        // 1. JWT에서 이메일 추출
-        String email = jwtUtil.validateAccessToken(accessToken);
-        if (email == null) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
+        // 1. 로그인 사용자 확인
+        Long userId = LoginUsers.requireId(loginUser);
 
         // 2. 기존 미팅 조회
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new IllegalArgumentException("미팅이 존재하지 않습니다."));
 
         // 3. Owner 검증
-        User owner = meeting.getOwner();
-        if (!owner.getEmail().equals(email)) {
+        if (!meeting.getOwner().getId().equals(userId)) {
             throw new IllegalArgumentException("생성자만 수정할 수 있습니다.");
         }
 
-        if (meetingRequestDto.getMaxParticipants() < meeting.getMeetingParticipants().size()) {
+        // 4. 최대 인원은 참가자 수와 같은 행에서 조건부로 변경 (동시 참가와 경합해도 정원 아래로 줄지 않음)
+        if (meetingRepository.updateMaxParticipants(meetingId, meetingRequestDto.getMaxParticipants()) == 0) {
             throw new IllegalArgumentException("최대 인원은 현재 참가자 수보다 적을 수 없습니다.");
         }
 
-        // 4. 필드 업데이트
+        if (meetingRequestDto.getMaxParticipants() > meeting.getMaxParticipants()) {
+            TransactionCallbacks.afterCommit(() -> meetingWaitlistService.signal(meetingId));
+        }
+
+        // 5. 제목이 바뀌면 캘린더 피드(미팅 / 참가자 각자)의 캘린더 이름·CATEGORIES 도 바뀌므로 커밋 후 전체 동기화로
+        if (!Objects.equals(meeting.getTitle(), meetingRequestDto.getName())) {
+            calendarChangeTracker.reset(calendarFeeds(meetingId));
+        }
+
+        // 6. 필드 업데이트 (@DynamicUpdate 라 max_participants 는 다시 쓰지 않음)
         meeting.setTitle(meetingRequestDto.getName());
         meeting.setDescription(meetingRequestDto.getDescription());
-        meeting.setMaxParticipants(meetingRequestDto.getMaxParticipants());
-
+        meetingListCache.invalidate();
+        meetingSearchIndex.update(meetingId, meeting.getTitle(), meeting.getDescription());
 
         return "수정 성공";
     }
 
 
     @Transactional
-    public String delete(Long meetingId, String accessToken) {
-        String email = jwtUtil.validateAccessToken(accessToken);
-        if (email == null) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
+    public String delete(Long meetingId, CustomUserDetails loginUser) {
+        Long userId = LoginUsers.requireId(loginUser);
 
-        Meeting meeting = meetingRepository.findById(meetingId)
+        // 1. 미팅 행 잠금 + owner 검증 (엔티티/하위 컬렉션을 읽지 않음)
+        Long ownerId = meetingRepository.lockOwnerIdById(meetingId)
                 .orElseThrow(() -> new IllegalArgumentException("미팅이 존재하지 않습니다."));
 
-
-        User owner = meeting.getOwner();
-        if (!owner.getEmail().equals(email)) {
+        if (!ownerId.equals(userId)) {
             throw new IllegalArgumentException("생성자만 삭제 할 수 있습니다.");
         }
 
-        meetingRepository.deleteById(meeting.getId());
+        // 2. 자식 -> 부모 순서로 집합 단위 삭제 (행마다 DELETE 하던 cascade/orphanRemoval 대신)
+        List<Long> scheduleIds = scheduleRepository.lockIdsByMeetingId(meetingId);
+        List<String> calendarFeeds = calendarFeeds(meetingId);
+        calendarFeeds.remove(CalendarChangeTracker.meetingFeed(meetingId));
+        scheduleParticipantRepository.deleteAllByMeetingId(meetingId);
+        scheduleRepository.deleteUserSchedulesByMeetingId(meetingId);
+        scheduleRepository.deleteAllByMeetingId(meetingId);
+        meetingParticipantRepository.deleteAllByMeetingId(meetingId);
+        meetingWaitlistRepository.deleteAllByMeetingId(meetingId);
+        meetingRepository.deleteUserMeetingsByMeetingId(meetingId);
+        meetingRepository.deleteMeetingById(meetingId);
+
+        meetingListCache.invalidate();
+        meetingSearchIndex.remove(meetingId);
+        scheduleConflictIndex.removed(scheduleIds);
+        calendarChangeTracker.reset(calendarFeeds);
+        calendarChangeTracker.forget(CalendarChangeTracker.meetingFeed(meetingId));
 
         return "미팅 삭제 성공";
     }
 
     @Transactional
-    public String meetingJoin( Long meetingId, String accessToken) {
+    public String meetingJoin(Long meetingId, CustomUserDetails loginUser) {
 
         MeetingParticipant.Role participantRole;
 
 
-        // 1. JWT 토큰에서 사용자 이메일 추출
-        String email = jwtUtil.validateAccessToken(accessToken);
-        if (email == null) {
-            throw new IllegalArgumentException("유효하지 않은 토큰");
-        }
-
-        // 2. 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없음"));
+        // 1. 로그인 사용자 확인
+        Long userId = LoginUsers.requireId(loginUser);
 
-        // 3. 미팅 조회
-        Meeting meeting = meetingRepository.findById(meetingId)
+        // 2. 미팅 존재 확인 + 역할 결정 (owner id 만 조회)
+        Long ownerId = meetingRepository.findOwnerIdById(meetingId)
                 .orElseThrow(() -> new IllegalArgumentException("미팅을 찾을 수 없음"));
 
-
-        if (meeting.getOwner().getEmail().equals(user.getEmail())) {
+        if (ownerId.equals(userId)) {
             participantRole = MeetingParticipant.Role.OWNER;
         } else {
             participantRole = MeetingParticipant.Role.PARTICIPANT;
         }
 
-
-        // 4. 이미 참가한 사용자인지 확인
-        if (meetingParticipantRepository.existsByMeetingAndUser(meeting, user)) {
-            throw new IllegalStateException("이미 참가한 미팅");
+        // 3. 좌석 선점: 정원이 남아 있을 때만 participant_count +1.
+        //    같은 미팅에 대한 참가는 이 행 락에서 순서가 정해지고, 이후 INSERT 의 외래 키 검사도 이미 잡은 락을 재사용한다.
+        //    정원이 찼으면 실패 대신 대기열에 등록 (자리가 나면 순서대로 자동 승격)
+        if (meetingRepository.incrementParticipantCount(meetingId) == 0) {
+            return meetingWaitlistService.enqueue(meetingId, userId);
         }
 
-        // 5. 최대 인원 확인
-        int currentParticipants = meeting.getMeetingParticipants().size();
-        if (currentParticipants >= meeting.getMaxParticipants()) {
-            throw new IllegalStateException("모임 정원 초과");
-        }
-
-        // 6. 참가자 추가
+        // 4. 참가자 추가. 중복 참가는 (meeting_id, user_id) 유니크 제약으로 막고, 예외 시 좌석 선점도 함께 롤백된다
         MeetingParticipant participant = MeetingParticipant.builder()
-                .meeting(meeting)
-                .user(user)
+                .meeting(meetingRepository.getReferenceById(meetingId))
+                .user(userRepository.getReferenceById(userId))
                 .status(MeetingParticipant.Status.ATTENDING)
                 .role(participantRole)
                 .build();
 
-        meetingParticipantRepository.save(participant);
+        try {
+            meetingParticipantRepository.saveAndFlush(participant);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 참가한 미팅");
+        }
 
+        meetingListCache.invalidate();
         return "참가 성공";
     }
 
 
+    // 참가 순서(createdAt, id) 기준 커서 페이지. user 는 같은 쿼리에서 조인해 email 만 가져온다
     @Transactional
-    public List<MeetingParticipantResponseDto> getParticipants(Long meetingId) {
-        List<MeetingParticipant> participants = meetingParticipantRepository.findByMeetingId(meetingId);
-        return participants.stream()
-                .map(MeetingParticipantResponseDto::fromEntity)
-                .collect(Collectors.toList());
+    public CursorPageDto<MeetingParticipantResponseDto> getParticipants(Long meetingId, String cursor, int size,
+                                                                        MeetingParticipant.Status status,
+                                                                        MeetingParticipant.Role role) {
+        int pageSize = PageSizes.normalize(size);
+        ParticipantCursor after = ParticipantCursor.decode(cursor);
+
+        List<MeetingParticipantResponseDto> rows = meetingParticipantRepository.findPage(
+                meetingId, status, role,
+                after == null ? null : after.createdAt(), after == null ? null : after.id(),
+                PageRequest.of(0, pageSize + 1));
+
+        return CursorPageDto.of(rows, pageSize,
+                participant -> ParticipantCursor.encode(participant.getCreatedAt(), participant.getId()));
     }
 
 
     @Transactional
-    public String deleteParticipants(Long meetingPartId, String accessToken) {
+    public String deleteParticipants(Long meetingPartId, CustomUserDetails loginUser) {
 
-        String email = jwtUtil.validateAccessToken(accessToken);
-        if (email == null) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
+        Long userId = LoginUsers.requireId(loginUser);
 
         MeetingParticipant meetingParticipant = meetingParticipantRepository.findById(meetingPartId)
                 .orElseThrow(() -> new IllegalArgumentException("미팅 참여자를 찾을 수 없음"));
 
+        // 본인 참가이거나 모임 생성자만 취소 가능 (취소하면 인원이 줄고 대기자가 승격되므로)
+        if (!meetingParticipant.getUser().getId().equals(userId)
+                && !meetingParticipant.getMeeting().getOwner().getId().equals(userId)) {
+            throw new ForbiddenException("본인 또는 모임 생성자만 참가를 취소할 수 있습니다.");
+        }
 
         meetingParticipantRepository.delete(meetingParticipant);
+        Long meetingId = meetingParticipant.getMeeting().getId();
+        meetingRepository.decrementParticipantCount(meetingId);
+
+        meetingListCache.invalidate();
+
+        // 빈 자리는 커밋 이후 대기자 승격으로 채움
+        TransactionCallbacks.afterCommit(() -> meetingWaitlistService.signal(meetingId));
 
 
         return "참가 취소 성공";
@@ -216,4 +303,35 @@ public class MeetingService {
     }
 
 
+    // 참가자 목록 커서: "createdAt|id" 를 URL-safe Base64 로 감싼 값
+    private record ParticipantCursor(LocalDateTime createdAt, Long id) {
+
+        static String encode(LocalDateTime createdAt, Long id) {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ParticipantCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new ParticipantCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.valueOf(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new BadRequestException("잘못된 cursor 입니다.");
+            }
+        }
+    }
+
+    // 미팅 일정이 들어 있는 캘린더 피드: 미팅 피드 + 일정 참가자 각자의 피드
+    private List<String> calendarFeeds(Long meetingId) {
+        List<String> feeds = new ArrayList<>();
+        feeds.add(CalendarChangeTracker.meetingFeed(meetingId));
+        scheduleParticipantRepository.findUserIdsByMeetingId(meetingId)
+                .forEach(participantId -> feeds.add(CalendarChangeTracker.userFeed(participantId)));
+        return feeds;
+    }
 }
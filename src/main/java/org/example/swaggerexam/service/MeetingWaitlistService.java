@@ -0,0 +1,137 @@
+package org.example.swaggerexam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.swaggerexam.domain.MeetingParticipant;
+import org.example.swaggerexam.domain.MeetingWaitlist;
+import org.example.swaggerexam.jwt.dto.CustomUserDetails;
+import org.example.swaggerexam.repository.MeetingParticipantRepository;
+import org.example.swaggerexam.repository.MeetingRepository;
+import org.example.swaggerexam.repository.MeetingWaitlistRepository;
+import org.example.swaggerexam.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정원이 찬 미팅의 참가 대기열.
+ * 참가 요청은 대기열에 한 번 등록되고, 자리가 나면 WaitlistPromoter 가 대기 순서대로 묶어서 참가자로 승격한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeetingWaitlistService {
+
+    private final MeetingWaitlistRepository meetingWaitlistRepository;
+    private final MeetingParticipantRepository meetingParticipantRepository;
+    private final MeetingRepository meetingRepository;
+    private final UserRepository userRepository;
+    private final MeetingListCache meetingListCache;
+
+    @Value("${meeting.waitlist.promote-batch-size:50}")
+    private int batchSize;
+
+    // 자리가 생겨 승격이 필요한 미팅 id
+    private final Set<Long> pendingMeetings = ConcurrentHashMap.newKeySet();
+
+    // 미팅 참가 트랜잭션 안에서 정원 초과 시 호출됨
+    @Transactional
+    public String enqueue(Long meetingId, Long userId) {
+        if (meetingParticipantRepository.existsByMeetingIdAndUserId(meetingId, userId)) {
+            throw new IllegalStateException("이미 참가한 미팅");
+        }
+
+        MeetingWaitlist entry = MeetingWaitlist.builder()
+                .meeting(meetingRepository.getReferenceById(meetingId))
+                .user(userRepository.getReferenceById(userId))
+                .build();
+
+        try {
+            meetingWaitlistRepository.saveAndFlush(entry);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 대기 중인 미팅");
+        }
+
+        long position = meetingWaitlistRepository.countByMeetingIdAndIdLessThanEqual(meetingId, entry.getId());
+        return "정원이 가득 차 대기열에 등록되었습니다. (대기 순번: " + position + ")";
+    }
+
+    @Transactional
+    public String leave(Long meetingId, CustomUserDetails loginUser) {
+        if (loginUser == null) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        }
+        if (meetingWaitlistRepository.deleteByMeetingIdAndUserId(meetingId, loginUser.getId()) == 0) {
+            throw new IllegalStateException("대기 중인 미팅이 아닙니다.");
+        }
+        return "대기 취소 성공";
+    }
+
+    // 참가 취소/정원 증가로 자리가 생겼을 때 (커밋 이후) 호출
+    public void signal(Long meetingId) {
+        pendingMeetings.add(meetingId);
+    }
+
+    public List<Long> drainSignals() {
+        List<Long> meetingIds = new ArrayList<>(pendingMeetings);
+        pendingMeetings.removeAll(meetingIds);
+        return meetingIds;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * 대기열 앞에서부터 최대 batchSize 명을 승격하고 처리한 대기 항목 수를 반환한다.
+     * 좌석은 참가와 같은 조건부 UPDATE 로 한 명씩 선점하므로 정원을 넘지 않고, 자리가 없으면 바로 멈춘다.
+     */
+    @Transactional
+    public int promote(Long meetingId) {
+        List<MeetingWaitlist> queue = meetingWaitlistRepository.findQueue(meetingId, PageRequest.of(0, batchSize));
+        if (queue.isEmpty()) {
+            return 0;
+        }
+
+        Long ownerId = meetingRepository.findOwnerIdById(meetingId).orElse(null);
+        List<Long> userIds = queue.stream().map(entry -> entry.getUser().getId()).toList();
+        Set<Long> joined = new HashSet<>(meetingParticipantRepository.findJoinedUserIds(meetingId, userIds));
+
+        List<MeetingParticipant> promoted = new ArrayList<>();
+        List<MeetingWaitlist> processed = new ArrayList<>();
+        for (MeetingWaitlist entry : queue) {
+            Long userId = entry.getUser().getId();
+            if (joined.contains(userId)) {
+                processed.add(entry); // 대기 중에 직접 참가한 사용자는 대기열에서만 제거
+                continue;
+            }
+            if (meetingRepository.incrementParticipantCount(meetingId) == 0) {
+                break;
+            }
+            promoted.add(MeetingParticipant.builder()
+                    .meeting(entry.getMeeting())
+                    .user(entry.getUser())
+                    .status(MeetingParticipant.Status.ATTENDING)
+                    .role(userId.equals(ownerId) ? MeetingParticipant.Role.OWNER : MeetingParticipant.Role.PARTICIPANT)
+                    .build());
+            processed.add(entry);
+        }
+
+        meetingParticipantRepository.saveAll(promoted);
+        meetingWaitlistRepository.deleteAllInBatch(processed);
+
+        if (!promoted.isEmpty()) {
+            meetingListCache.invalidate();
+            log.info("미팅 {} 대기자 {}명 참가 승격", meetingId, promoted.size());
+        }
+        return processed.size();
+    }
+}
@@ -0,0 +1,274 @@
+package org.example.swaggerexam.service;
+
+import org.example.swaggerexam.repository.ScheduleParticipantRepository;
+import org.example.swaggerexam.repository.ScheduleParticipantRepository.ScheduleInterval;
+import org.example.swaggerexam.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자별 참가 일정 시간 구간 인덱스 (일정 시간 겹침 검사용).
+ * 사용자마다 시작 시각 순 TreeMap 을 처음 조회할 때 schedule_participants 에서 한 번 읽어 두고,
+ * 이후 참가/탈퇴/일정 수정/삭제는 커밋 이후 해당 항목만 고친다.
+ * 겹침 검사는 [start, end) 안에서 시작하는 구간 + start 이전 (가장 긴 구간 길이) 안에서 시작한 구간만 보면 되므로 O(log n) 에 가깝다.
+ *
+ * 처음 읽기는 호출한 트랜잭션의 스냅샷(REPEATABLE READ)이 아닌 별도 READ COMMITTED 트랜잭션에서 하고,
+ * 읽는 사이 커밋된 변경이 있으면 (변경 stamp 가 바뀌었으면) 그 결과는 이번 요청에만 쓰고 캐시하지 않는다.
+ * 캐시된 사용자 수가 상한을 넘으면 가장 오래 쓰이지 않은 사용자부터 밀어낸다.
+ */
+@Component
+public class ScheduleConflictIndex {
+
+    private static final int STAMP_STRIPES = 1024; // 2의 거듭제곱
+
+    private final ScheduleParticipantRepository scheduleParticipantRepository;
+    private final TransactionTemplate loadTransaction;
+    // 접근 순서 LinkedHashMap (LRU). 자기 자신을 락으로 잡은 상태에서만 접근
+    private final LinkedHashMap<Long, UserIntervals> users;
+    // 커밋된 변경마다 증가: 사용자별(해시 구간) stamp + 여러 사용자에 걸친 변경(일정 수정/삭제)용 전역 stamp
+    private final AtomicLongArray userStamps = new AtomicLongArray(STAMP_STRIPES);
+    private final AtomicLong globalStamp = new AtomicLong();
+
+    public ScheduleConflictIndex(ScheduleParticipantRepository scheduleParticipantRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${schedule.conflict-index.max-users:10000}") int maxUsers) {
+        this.scheduleParticipantRepository = scheduleParticipantRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.loadTransaction.setReadOnly(true);
+        this.users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserIntervals> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public record Interval(Long scheduleId, Instant startAt, Instant endAt) {
+    }
+
+    public record Conflict(Interval first, Interval second) {
+    }
+
+    // [startAt, endAt) 와 겹치는 사용자의 다른 일정 id
+    public List<Long> findOverlapping(Long userId, Long scheduleId, Instant startAt, Instant endAt) {
+        UserIntervals intervals = intervalsOf(userId);
+        synchronized (intervals) {
+            return intervals.overlapping(scheduleId, startAt, endAt);
+        }
+    }
+
+    // 사용자의 일정 중 서로 겹치는 모든 쌍 (시작 시각 순)
+    public List<Conflict> findConflicts(Long userId) {
+        UserIntervals intervals = intervalsOf(userId);
+        synchronized (intervals) {
+            return intervals.conflicts();
+        }
+    }
+
+    // 아래 변경은 모두 현재 트랜잭션이 커밋된 뒤에 반영 (롤백된 참가가 인덱스에 남지 않도록)
+    // stamp 를 먼저 올린 뒤 캐시를 고치므로, 그 사이 읽기를 마친 로딩은 캐시에 들어가지 못한다
+    // 시각을 모르면(참가 시 일정을 읽지 않은 경우) 사용자 항목을 버리고 다음 조회 때 다시 읽는다
+    public void joined(Long userId, Long scheduleId, Instant startAt, Instant endAt) {
+        if (startAt == null || endAt == null) {
+            TransactionCallbacks.afterCommit(() -> {
+                bumpUser(userId);
+                synchronized (users) {
+                    users.remove(userId);
+                }
+            });
+            return;
+        }
+        Interval interval = new Interval(scheduleId, startAt, endAt);
+        TransactionCallbacks.afterCommit(() -> {
+            bumpUser(userId);
+            UserIntervals intervals = cached(userId);
+            if (intervals != null) {
+                synchronized (intervals) {
+                    intervals.put(interval);
+                }
+            }
+        });
+    }
+
+    public void left(Long userId, Long scheduleId) {
+        TransactionCallbacks.afterCommit(() -> {
+            bumpUser(userId);
+            UserIntervals intervals = cached(userId);
+            if (intervals != null) {
+                synchronized (intervals) {
+                    intervals.remove(scheduleId);
+                }
+            }
+        });
+    }
+
+    // 일정 시간 변경: 그 일정에 참가한 (캐시된) 사용자 모두 갱신
+    public void rescheduled(Long scheduleId, Instant startAt, Instant endAt) {
+        Interval interval = startAt == null || endAt == null ? null : new Interval(scheduleId, startAt, endAt);
+        TransactionCallbacks.afterCommit(() -> {
+            globalStamp.incrementAndGet();
+            for (UserIntervals intervals : cachedAll()) {
+                synchronized (intervals) {
+                    if (intervals.contains(scheduleId)) {
+                        intervals.remove(scheduleId);
+                        if (interval != null) {
+                            intervals.put(interval);
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    public void removed(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(scheduleIds);
+        TransactionCallbacks.afterCommit(() -> {
+            globalStamp.incrementAndGet();
+            for (UserIntervals intervals : cachedAll()) {
+                synchronized (intervals) {
+                    ids.forEach(intervals::remove);
+                }
+            }
+        });
+    }
+
+    // 로딩(DB 조회)은 캐시 락 밖에서 하고, 읽기 전후 stamp 가 같을 때만 캐시에 넣는다
+    private UserIntervals intervalsOf(Long userId) {
+        UserIntervals cached = cached(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long userStamp = userStamps.get(stripeOf(userId));
+        long global = globalStamp.get();
+        UserIntervals loaded = loadTransaction.execute(status -> load(userId));
+        synchronized (users) {
+            if (userStamps.get(stripeOf(userId)) != userStamp || globalStamp.get() != global) {
+                return loaded; // 읽는 사이 커밋된 변경이 있어 최신이라는 보장이 없으므로 이번 요청에만 사용
+            }
+            UserIntervals existing = users.putIfAbsent(userId, loaded);
+            return existing != null ? existing : loaded;
+        }
+    }
+
+    private UserIntervals cached(Long userId) {
+        synchronized (users) {
+            return users.get(userId);
+        }
+    }
+
+    private List<UserIntervals> cachedAll() {
+        synchronized (users) {
+            return new ArrayList<>(users.values());
+        }
+    }
+
+    private void bumpUser(Long userId) {
+        userStamps.incrementAndGet(stripeOf(userId));
+    }
+
+    private static int stripeOf(Long userId) {
+        int h = userId.hashCode();
+        return (h ^ (h >>> 16)) & (STAMP_STRIPES - 1);
+    }
+
+    private UserIntervals load(Long userId) {
+        UserIntervals intervals = new UserIntervals();
+        for (ScheduleInterval row : scheduleParticipantRepository.findIntervalsByUserId(userId)) {
+            intervals.put(new Interval(row.getScheduleId(), row.getStartAt(), row.getEndAt()));
+        }
+        return intervals;
+    }
+
+    // 필드는 자기 자신을 락으로 잡은 상태에서만 접근
+    private static final class UserIntervals {
+
+        private static final Comparator<Interval> BY_START =
+                Comparator.comparing(Interval::startAt).thenComparing(Interval::scheduleId);
+
+        private final NavigableMap<Interval, Interval> byStart = new TreeMap<>(BY_START);
+        private final Map<Long, Interval> byId = new HashMap<>();
+        // 구간 길이(ms) -> 개수, 가장 긴 구간 길이를 O(log n) 으로 유지
+        private final TreeMap<Long, Integer> lengths = new TreeMap<>();
+
+        private boolean contains(Long scheduleId) {
+            return byId.containsKey(scheduleId);
+        }
+
+        private void put(Interval interval) {
+            remove(interval.scheduleId());
+            byStart.put(interval, interval);
+            byId.put(interval.scheduleId(), interval);
+            lengths.merge(lengthOf(interval), 1, Integer::sum);
+        }
+
+        private void remove(Long scheduleId) {
+            Interval interval = byId.remove(scheduleId);
+            if (interval == null) {
+                return;
+            }
+            byStart.remove(interval);
+            lengths.computeIfPresent(lengthOf(interval), (length, count) -> count == 1 ? null : count - 1);
+        }
+
+        private List<Long> overlapping(Long excludeId, Instant startAt, Instant endAt) {
+            List<Long> result = new ArrayList<>();
+            if (byStart.isEmpty()) {
+                return result;
+            }
+            // start 이전에 시작한 구간은 가장 긴 구간 길이 안쪽에서 시작한 것만 겹칠 수 있다
+            Instant from = startAt.minusMillis(lengths.lastKey());
+            Interval lower = new Interval(Long.MIN_VALUE, from, from);
+            Interval upper = new Interval(Long.MIN_VALUE, endAt, endAt);
+            for (Interval candidate : byStart.subMap(lower, true, upper, false).keySet()) {
+                if (!candidate.scheduleId().equals(excludeId) && candidate.endAt().isAfter(startAt)) {
+                    result.add(candidate.scheduleId());
+                }
+            }
+            return result;
+        }
+
+        // 시작 시각 순으로 훑으면서 아직 끝나지 않은 구간(종료 시각 최소 힙)과 짝 짓기: O(n log n + 겹치는 쌍 수)
+        private List<Conflict> conflicts() {
+            List<Conflict> result = new ArrayList<>();
+            PriorityQueue<Interval> active = new PriorityQueue<>(Comparator.comparing(Interval::endAt));
+            for (Interval interval : byStart.keySet()) {
+                while (!active.isEmpty() && !active.peek().endAt().isAfter(interval.startAt())) {
+                    active.poll();
+                }
+                List<Interval> open = new ArrayList<>(active);
+                open.sort(BY_START);
+                for (Interval other : open) {
+                    result.add(new Conflict(other, interval));
+                }
+                active.add(interval);
+            }
+            return result;
+        }
+
+        private static long lengthOf(Interval interval) {
+            return interval.endAt().toEpochMilli() - interval.startAt().toEpochMilli();
+        }
+    }
+}
@@ -2,17 +2,28 @@ package org.example.swaggerexam.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.coyote.BadRequestException;
 import org.example.swaggerexam.domain.*;
 import org.example.swaggerexam.dto.*;
+import org.example.swaggerexam.exception.type.BadRequestException;
 import org.example.swaggerexam.exception.type.ForbiddenException;
-import org.example.swaggerexam.jwt.utill.JwtUtil;
+import org.example.swaggerexam.jwt.dto.CustomUserDetails;
 import org.example.swaggerexam.repository.*;
+import org.example.swaggerexam.util.ScheduleTimes;
+import org.example.swaggerexam.util.LoginUsers;
+import org.example.swaggerexam.util.PageSizes;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.crossstore.ChangeSetPersister;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -20,38 +31,40 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class ScheduleService {
+
+    // MySQL DATETIME 범위 안의 기간 조회 기본값
+    private static final Instant MIN_START_AT = Instant.parse("1000-01-01T00:00:00Z");
+    private static final Instant MAX_START_AT = Instant.parse("9999-12-31T00:00:00Z");
+
     private  final MeetingParticipantRepository meetingParticipantRepository;
     private final ScheduleParticipantRepository scheduleParticipantRepository;
     private final MeetingRepository meetingRepository;
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
-    private final JwtUtil jwtUtil;
+    private final ScheduleConflictIndex scheduleConflictIndex;
+    private final CalendarChangeTracker calendarChangeTracker;
 
     @Transactional
     public String createSchedule(ScheduleRequestDto scheduleRequestDto,
                                               Long meetingId,
-                                              String accessToken) {
-
-        String email = jwtUtil.validateAccessToken(accessToken);
-        if (email == null) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
+                                              CustomUserDetails loginUser) {
 
-        // 1. 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없음"));
+        // 1. 로그인 사용자 확인
+        Long userId = LoginUsers.requireId(loginUser);
 
+        validate(scheduleRequestDto);
 
         Schedule schedule = new Schedule();
         schedule.setTitle(scheduleRequestDto.getTitle());
-        schedule.setDate(String.valueOf(scheduleRequestDto.getDate()));
-        schedule.setTime(String.valueOf(scheduleRequestDto.getTime()));
         schedule.setLocation(scheduleRequestDto.getLocation());
+        applyTimes(schedule, scheduleRequestDto);
+        schedule.setCapacity(scheduleRequestDto.getCapacity());
 
 
         schedule.setMeeting(meetingRepository.findById(meetingId).get());
-        schedule.setOwner(userRepository.findByEmail(email).get());
+        schedule.setOwner(userRepository.getReferenceById(userId));
         scheduleRepository.save(schedule);
+        calendarChangeTracker.changed(CalendarChangeTracker.meetingFeed(meetingId), schedule.getId());
 
         return "스케줄 생성 성공";
 
@@ -62,28 +75,32 @@ public class ScheduleService {
     public String upadteSchedule(ScheduleRequestDto scheduleRequestDto,
                                  Long meetingId,
                                  Long scheduleId,
-                                 String accessToken) {
+                                 CustomUserDetails loginUser) {
 
-        String email = jwtUtil.validateAccessToken(accessToken);
-        if (email == null) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long userId = LoginUsers.requireId(loginUser);
 
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다."));
 
 
         validateMeetingAssociation(schedule, meetingId);
-        validateOwnership(user, schedule);
+        validateOwnership(userId, schedule);
         validate(scheduleRequestDto);
 
 
         schedule.setTitle(scheduleRequestDto.getTitle());
-        schedule.setDate(scheduleRequestDto.getDate());
-        schedule.setTime(scheduleRequestDto.getTime());
         schedule.setLocation(scheduleRequestDto.getLocation());
+        applyTimes(schedule, scheduleRequestDto);
+
+        // 정원 변경은 현재 참가자 수 이상일 때만 (@DynamicUpdate 라 capacity 는 엔티티 flush 로 다시 쓰지 않음)
+        Integer capacity = scheduleRequestDto.getCapacity();
+        if (capacity != null && !capacity.equals(schedule.getCapacity())
+                && scheduleRepository.updateCapacity(scheduleId, capacity) == 0) {
+            throw new BadRequestException("현재 참가자 수보다 적은 정원으로 변경할 수 없습니다.");
+        }
+
+        scheduleConflictIndex.rescheduled(scheduleId, schedule.getStartAt(), schedule.getEndAt());
+        calendarChangeTracker.changed(calendarFeeds(meetingId, scheduleId), scheduleId, false);
 
         return "일정 수정 성공";
 
@@ -91,33 +108,29 @@ public class ScheduleService {
 
 
     @Transactional
-    public String deleteSchedule(Long meetingId, Long scheduleId, String accessToken) {
-        // 1. 토큰 검증 및 이메일 추출
-        String email = jwtUtil.validateAccessToken(accessToken);
-        if (email == null) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
-
-        // 2. 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    public String deleteSchedule(Long meetingId, Long scheduleId, CustomUserDetails loginUser) {
+        // 1. 로그인 사용자 확인
+        Long userId = LoginUsers.requireId(loginUser);
 
-        // 3. 일정 조회
+        // 2. 일정 조회
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다."));
 
-        // 4. 미팅 소속 확인
+        // 3. 미팅 소속 확인
         if (!schedule.getMeeting().getId().equals(meetingId)) {
             throw new IllegalArgumentException("해당 미팅의 일정이 아닙니다.");
         }
 
-        // 5. 권한 확인
-        if (!user.getId().equals(schedule.getOwner().getId())) {
+        // 4. 권한 확인
+        if (!userId.equals(schedule.getOwner().getId())) {
             throw new IllegalStateException("일정 삭제 권한이 없습니다.");
         }
 
-        // 6. 일정 삭제
+        // 5. 일정 삭제
+        List<String> feeds = calendarFeeds(meetingId, scheduleId);
         scheduleRepository.delete(schedule);
+        calendarChangeTracker.changed(feeds, scheduleId, true);
+        scheduleConflictIndex.removed(List.of(scheduleId));
 
         return "일정이 성공적으로 삭제되었습니다.";
     }
@@ -127,91 +140,121 @@ public class ScheduleService {
 
 
 
+    /**
+     * 일정 목록 (커서 페이지).
+     * 일정 x 참가자를 한 번에 JOIN FETCH 하면 행 수가 곱으로 늘고 페이지를 자를 수 없으므로,
+     * 일정 행만 먼저 페이지로 읽고 그 페이지의 참가자만 IN 쿼리로 한 번 더 읽는다. (참가자 수는 schedules.attendee_count)
+     * from/to 가 있으면 [from, to) 기간에 시작하는 일정만 시작 시각 순, 없으면 id 순.
+     */
     @Transactional(readOnly = true)
-    public List<ScheduleResponseDto> list(Long meetingId) {
+    public CursorPageDto<ScheduleResponseDto> list(Long meetingId, Instant from, Instant to,
+                                                   String cursor, int size, boolean includeParticipants) {
 
-        // 1. 미팅 존재 여부 확인
-        if (!meetingRepository.existsById(meetingId)) {
-            throw new IllegalArgumentException("미팅이 존재하지 않습니다.");
+        // 1. 미팅 조회 (모든 일정이 같은 미팅이므로 한 번만)
+        Meeting meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new IllegalArgumentException("미팅이 존재하지 않습니다."));
+        MeetingInfoDto meetingInfo = MeetingInfoDto.fromEntity(meeting);
+
+        int pageSize = PageSizes.normalize(size);
+        ScheduleCursor after = ScheduleCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        boolean byStartAt = from != null || to != null;
+
+        // 2. 일정 페이지 조회
+        List<ScheduleResponseDto> rows;
+        if (!byStartAt) {
+            rows = scheduleRepository.findPage(meetingId, after == null ? 0L : after.id(), limit);
+        } else {
+            Instant lower = from != null ? from : MIN_START_AT;
+            if (after != null && after.startAt() == null) {
+                throw new BadRequestException("잘못된 cursor 입니다.");
+            }
+            rows = scheduleRepository.findPageByStartAt(meetingId, lower, to != null ? to : MAX_START_AT,
+                    after == null ? lower : after.startAt(), after == null ? 0L : after.id(), limit);
         }
 
-        // 2. 스케줄 조회
-        List<Schedule> schedules = scheduleRepository.findByMeetingIdWithDetails(meetingId);
-
+        CursorPageDto<ScheduleResponseDto> page = CursorPageDto.of(rows, pageSize,
+                schedule -> ScheduleCursor.encode(byStartAt ? schedule.getStartAt() : null, schedule.getId()));
 
-        return schedules.stream()
-                .map(ScheduleResponseDto::convertToResponseDto)
-                .collect(Collectors.toList());
-
-    }
-
-
-
-    @Transactional
-    public String scheduleJoin( Long meetingId,  Long scheduleId , String accessToken) {
+        // 3. 이 페이지 일정의 참가자 / 참가자 수
+        List<ScheduleResponseDto> schedules = page.getItems();
+        List<Long> scheduleIds = schedules.stream().map(ScheduleResponseDto::getId).toList();
+        Map<Long, List<ScheduleParticipantResponseDto>> participants = new HashMap<>();
 
-        // 1. JWT 토큰 유효성 검사
-        String email = jwtUtil.validateAccessToken(accessToken);
-        if (email == null) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        if (includeParticipants && !scheduleIds.isEmpty()) {
+            for (ScheduleParticipantRepository.ParticipantRow row
+                    : scheduleParticipantRepository.findRowsByScheduleIdIn(scheduleIds)) {
+                participants.computeIfAbsent(row.getScheduleId(), id -> new ArrayList<>())
+                        .add(new ScheduleParticipantResponseDto(row.getUserId(), row.getEmail()));
+            }
         }
 
-        // 2. 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없음"));
-
-        // 3. 미팅 존재 여부 확인 (Optional 처리)
-        Meeting meeting = meetingRepository.findById(meetingId)
-                .orElseThrow(() -> new IllegalArgumentException("미팅이 존재하지 않습니다."));
+        for (ScheduleResponseDto schedule : schedules) {
+            schedule.setMeeting(meetingInfo);
+            if (includeParticipants) {
+                schedule.setParticipants(participants.getOrDefault(schedule.getId(), new ArrayList<>()));
+            }
+        }
 
-        // 4. 스케줄 존재 여부 및 미팅 소속 확인
-        Schedule schedule = scheduleRepository.findById(scheduleId)
-                .orElseThrow(() -> new IllegalArgumentException("일정이 존재하지 않습니다."));
+        return page;
+    }
 
-        if (!schedule.getMeeting().getId().equals(meetingId)) {
-            throw new IllegalArgumentException("해당 미팅의 스케줄이 아닙니다.");
-        }
 
-        // 5. 미팅 참가자 여부 확인 (필요시)
-        if (!meetingParticipantRepository.existsByMeetingAndUser(meeting, user)) {
-            throw new IllegalStateException("미팅 참가자만 스케줄에 참여할 수 있습니다.");
-        }
 
-        // 6. 스케줄 중복 참가 확인
-        if (scheduleParticipantRepository.existsByScheduleAndUser(schedule, user)) {
-            throw new IllegalStateException("이미 참가한 일정입니다.");
+    // checkConflict 가 true 면 이미 참가한 다른 일정과 시간이 겹칠 때 참가하지 않음
+    @Transactional
+    public String scheduleJoin(Long meetingId, Long scheduleId, boolean checkConflict, CustomUserDetails loginUser) {
+
+        // 1. 로그인 사용자 확인
+        Long userId = LoginUsers.requireId(loginUser);
+
+        // 2. 시간 겹침 확인 (선택)
+        Instant startAt = null;
+        Instant endAt = null;
+        if (checkConflict) {
+            Schedule schedule = scheduleRepository.findById(scheduleId)
+                    .orElseThrow(() -> new IllegalArgumentException("일정이 존재하지 않습니다."));
+            startAt = schedule.getStartAt();
+            endAt = schedule.getEndAt();
+            if (startAt != null && endAt != null) {
+                List<Long> overlapping = scheduleConflictIndex.findOverlapping(userId, scheduleId, startAt, endAt);
+                if (!overlapping.isEmpty()) {
+                    throw new BadRequestException("시간이 겹치는 일정에 이미 참가했습니다: " + overlapping);
+                }
+            }
         }
 
-        // 7. 미팅 참가자 수 제한 확인
-        int currentParticipants = scheduleParticipantRepository.countBySchedule(schedule);
-        if (currentParticipants >= meeting.getMaxParticipants()) {
-            throw new IllegalStateException("미팅 참가자 수 제한을 초과했습니다.");
+        // 3. 좌석 선점: 미팅 소속 / 미팅 참가자 여부 / 정원을 조건부 UPDATE 한 번으로 확인 (동시 참가에도 정원을 넘지 않음)
+        if (scheduleRepository.incrementAttendeeCount(meetingId, scheduleId, userId) == 0) {
+            throw joinRejected(meetingId, scheduleId, userId);
         }
 
-        // 7. 스케줄 참가자 생성 및 저장
+        // 4. 스케줄 참가자 저장. 중복 참가는 (schedule_id, user_id) 유니크 제약으로 막고, 예외 시 좌석 선점도 함께 롤백된다
         ScheduleParticipant participant = ScheduleParticipant.builder()
-                .schedule(schedule)
-                .user(user)
+                .schedule(scheduleRepository.getReferenceById(scheduleId))
+                .user(userRepository.getReferenceById(userId))
                 .status(ScheduleParticipant.Status.ATTENDING) // 기본값 설정
                 .build();
 
-        scheduleParticipantRepository.save(participant);
+        try {
+            scheduleParticipantRepository.saveAndFlush(participant);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 참가한 일정입니다.");
+        }
+        scheduleConflictIndex.joined(userId, scheduleId, startAt, endAt);
+        calendarChangeTracker.changed(CalendarChangeTracker.userFeed(userId), scheduleId);
 
         return "스케줄 참가 성공";
     }
 
 
     @Transactional
-    public String leaveSchedule(Long meetingId, Long scheduleId, String accessToken) {
-        // 1. JWT에서 이메일 추출
-        String email = jwtUtil.validateAccessToken(accessToken);
-        if (email == null) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
+    public String leaveSchedule(Long meetingId, Long scheduleId, CustomUserDetails loginUser) {
+        // 1. 로그인 사용자 확인
+        Long userId = LoginUsers.requireId(loginUser);
 
-        // 2. 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없음"));
+        // 2. 사용자 참조 (필터에서 이미 조회된 사용자)
+        User user = userRepository.getReferenceById(userId);
 
         // 3. 미팅 및 스케줄 소속 확인
         Schedule schedule = scheduleRepository.findById(scheduleId)
@@ -227,6 +270,9 @@ public class ScheduleService {
 
         // 5. 참가 기록 삭제
         scheduleParticipantRepository.delete(participant);
+        scheduleRepository.decrementAttendeeCount(scheduleId);
+        scheduleConflictIndex.left(userId, scheduleId);
+        calendarChangeTracker.removed(CalendarChangeTracker.userFeed(userId), scheduleId);
 
         return "일정 탈퇴 성공";
     }
@@ -254,14 +300,53 @@ public class ScheduleService {
 
 
 
+    // 일정이 들어 있는 캘린더 피드: 미팅 피드 + 참가자 각자의 피드
+    private List<String> calendarFeeds(Long meetingId, Long scheduleId) {
+        List<String> feeds = new ArrayList<>();
+        feeds.add(CalendarChangeTracker.meetingFeed(meetingId));
+        scheduleParticipantRepository.findUserIdsByScheduleId(scheduleId)
+                .forEach(userId -> feeds.add(CalendarChangeTracker.userFeed(userId)));
+        return feeds;
+    }
+
+    // 좌석 선점이 실패한 이유 확인 (실패한 경우에만 조회)
+    private RuntimeException joinRejected(Long meetingId, Long scheduleId, Long userId) {
+        Schedule schedule = scheduleRepository.findById(scheduleId).orElse(null);
+        if (schedule == null) {
+            return new IllegalArgumentException("일정이 존재하지 않습니다.");
+        }
+        if (!schedule.getMeeting().getId().equals(meetingId)) {
+            return new IllegalArgumentException("해당 미팅의 스케줄이 아닙니다.");
+        }
+        if (!meetingParticipantRepository.existsByMeetingIdAndUserId(meetingId, userId)) {
+            return new IllegalStateException("미팅 참가자만 스케줄에 참여할 수 있습니다.");
+        }
+        if (scheduleParticipantRepository.existsByScheduleIdAndUserId(scheduleId, userId)) {
+            return new IllegalStateException("이미 참가한 일정입니다.");
+        }
+        return new IllegalStateException("일정 참가자 수 제한을 초과했습니다.");
+    }
+
+    private void applyTimes(Schedule schedule, ScheduleRequestDto scheduleRequestDto) {
+        ScheduleTimes.Resolved times = ScheduleTimes.resolve(scheduleRequestDto.getStartAt(),
+                scheduleRequestDto.getEndAt(), scheduleRequestDto.getTimeZone(),
+                scheduleRequestDto.getDate(), scheduleRequestDto.getTime());
+
+        schedule.setStartAt(times.startAt());
+        schedule.setEndAt(times.endAt());
+        schedule.setTimeZone(times.timeZone());
+        schedule.setDate(times.date());
+        schedule.setTime(times.time());
+    }
+
     private void validateMeetingAssociation(Schedule schedule, Long meetingId) {
         if (!schedule.getMeeting().getId().equals(meetingId)) {
             throw new IllegalArgumentException("미팅과 일정이 매칭되지 않습니다.");
         }
     }
 
-    private void validateOwnership(User user, Schedule schedule) {
-        if (!user.getId().equals(schedule.getOwner().getId())) {
+    private void validateOwnership(Long userId, Schedule schedule) {
+        if (!userId.equals(schedule.getOwner().getId())) {
             throw new ForbiddenException("일정 수정 권한이 없습니다.");
         }
     }
@@ -277,10 +362,39 @@ public class ScheduleService {
             throw new IllegalArgumentException("Location cannot be null or empty");
         }
 
-        // 날짜, 시간 형식 등 유효성 검사
-        if (scheduleRequestDto.getDate() == null || scheduleRequestDto.getTime() == null) {
+        // 날짜, 시간 형식 등 유효성 검사 (startAt 또는 기존 date + time 중 하나는 필수)
+        if (scheduleRequestDto.getStartAt() == null
+                && (scheduleRequestDto.getDate() == null || scheduleRequestDto.getTime() == null)) {
             throw new IllegalArgumentException("날짜와 시간은 필수 입력 항목입니다.");
         }
 
+        if (scheduleRequestDto.getCapacity() != null && scheduleRequestDto.getCapacity() < 1) {
+            throw new BadRequestException("정원은 1 이상이어야 합니다.");
+        }
+
+    }
+
+    // 일정 목록 커서: base64url("startAt|id"), id 순 목록이면 startAt 자리는 비워 둔다
+    private record ScheduleCursor(Instant startAt, Long id) {
+
+        static String encode(Instant startAt, Long id) {
+            String raw = (startAt == null ? "" : startAt.toString()) + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ScheduleCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                String startAt = raw.substring(0, separator);
+                return new ScheduleCursor(startAt.isEmpty() ? null : Instant.parse(startAt),
+                        Long.valueOf(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new BadRequestException("잘못된 cursor 입니다.");
+            }
+        }
     }
 }
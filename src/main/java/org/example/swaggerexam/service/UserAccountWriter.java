@@ -0,0 +1,50 @@
+package org.example.swaggerexam.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.swaggerexam.domain.RefreshSession;
+import org.example.swaggerexam.domain.User;
+import org.example.swaggerexam.repository.RefreshSessionRepository;
+import org.example.swaggerexam.repository.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원가입 / 로그인에서 BCrypt 해싱이 끝난 뒤의 저장을 한 트랜잭션으로 수행.
+ * UserService 가 해싱 풀이 아닌 별도 실행기에서 호출하므로 BCrypt 스레드가 DB 커넥션을 기다리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAccountWriter {
+
+    private final UserRepository userRepository;
+    private final RefreshSessionRepository refreshSessionRepository;
+
+    // 해싱하는 사이 같은 이메일로 가입된 경우도 여기서 다시 확인 (최종 보장은 email UNIQUE 제약)
+    @Transactional
+    public String createUser(String email, String encodedPassword) {
+        if (userRepository.findByEmail(email).isPresent()) {
+            return "Email already exists";
+        }
+
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword(encodedPassword);
+        userRepository.save(user);
+
+        return "User registered successfully";
+    }
+
+    // 기기별 REFRESH 세션 저장 (토큰 원문 대신 해시)
+    @Transactional
+    public void createSession(Long userId, String tokenHash, String deviceName, LocalDateTime expiresAt) {
+        RefreshSession session = RefreshSession.builder()
+                .user(userRepository.getReferenceById(userId))
+                .tokenHash(tokenHash)
+                .deviceName(deviceName)
+                .expiresAt(expiresAt)
+                .build();
+        refreshSessionRepository.save(session);
+    }
+}
@@ -1,65 +1,78 @@
 package org.example.swaggerexam.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.swaggerexam.domain.RefreshSession;
 import org.example.swaggerexam.dto.LoginRequestDto;
 import org.example.swaggerexam.dto.LoginResponseDto;
 import org.example.swaggerexam.dto.RegisterRequestDto;
 import org.example.swaggerexam.domain.User;
 import org.example.swaggerexam.dto.UserDto;
+import org.example.swaggerexam.repository.RefreshSessionRepository;
 import org.example.swaggerexam.repository.UserRepository;
 import org.example.swaggerexam.jwt.utill.JwtUtil;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
+    private static final int DEVICE_NAME_MAX_LENGTH = 255;
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshSessionRepository refreshSessionRepository;
+    private final PasswordHasher passwordHasher;
+    private final UserAccountWriter userAccountWriter;
     private final JwtUtil jwtUtil;
+    // 해싱 이후의 DB 저장을 실행할 스프링 부트 기본 실행기 (BCrypt 전용 풀을 DB 대기로 점유하지 않도록)
+    private final Executor applicationTaskExecutor;
 
-    @Transactional
-    public String register(RegisterRequestDto registerRequestDto) {
+    // BCrypt 해싱은 PasswordHasher 전용 풀에서 수행하고, 저장은 애플리케이션 실행기에서 트랜잭션으로 한다 (요청 스레드는 바로 반환)
+    public CompletableFuture<String> register(RegisterRequestDto registerRequestDto) {
         String email = registerRequestDto.getEmail();
         String password = registerRequestDto.getPassword();
 
 
         if (userRepository.findByEmail(email).isPresent()) {
-            return "Email already exists";
+            return CompletableFuture.completedFuture("Email already exists");
         }
-        User user = new User();
-        user.setEmail(email);
-        user.setPassword(passwordEncoder.encode(password));
-
-        userRepository.save(user);
 
-        return "User registered successfully";
+        return passwordHasher.encode(password)
+                .thenApplyAsync(encodedPassword -> userAccountWriter.createUser(email, encodedPassword),
+                        applicationTaskExecutor);
     }
 
-    @Transactional
-    public LoginResponseDto  login(LoginRequestDto loginRequestDto) {
+    public CompletableFuture<LoginResponseDto> login(LoginRequestDto loginRequestDto, String deviceName) {
         Optional<User> user = userRepository.findByEmail(loginRequestDto.getEmail());
-        if (user.isPresent() && passwordEncoder.matches(loginRequestDto.getPassword(), user.get().getPassword())) {
+        if (user.isEmpty()) {
+            return CompletableFuture.failedFuture(new RuntimeException("Invalid credentials"));
+        }
+        Long userId = user.get().getId();
+        String email = user.get().getEmail();
+
+        return passwordHasher.matches(loginRequestDto.getPassword(), user.get().getPassword()).thenApplyAsync(matched -> {
+            if (!matched) {
+                throw new RuntimeException("Invalid credentials");
+            }
             // JWT 토큰 생성 로직
-            String accessToken = jwtUtil.generateAccessToken(user.get().getEmail());
-            String refreshToken = jwtUtil.generateRefreshToken(user.get().getEmail());
+            String accessToken = jwtUtil.generateAccessToken(email);
+            String refreshToken = jwtUtil.generateRefreshToken(email);
 
-            // REFRESH 토큰을 데이터베이스에 저장
-            user.get().setRefreshToken(refreshToken);
-            userRepository.save(user.get());
+            userAccountWriter.createSession(userId, jwtUtil.hashToken(refreshToken),
+                    truncateDeviceName(deviceName), refreshTokenExpiresAt());
 
             return new LoginResponseDto(accessToken, refreshToken);
-        }
-        throw new RuntimeException("Invalid credentials");
-
+        }, applicationTaskExecutor);
     }
 
     @Transactional
@@ -67,13 +80,9 @@ public class UserService {
         // ACCESS 토큰 무효화
         jwtUtil.invalidateToken(accessToken);
 
-        // REFRESH 토큰 삭제
+        // 이 기기의 REFRESH 세션만 삭제 (다른 기기 세션은 유지)
         if (refreshToken != null) {
-            Optional<User> user = userRepository.findByRefreshToken(refreshToken);
-            if (user.isPresent()) {
-                user.get().setRefreshToken(null); // REFRESH 토큰을 null로 설정하여 삭제
-                userRepository.save(user.get());
-            }
+            refreshSessionRepository.deleteByTokenHash(jwtUtil.hashToken(refreshToken));
         }
 
         return "Logout successful";
@@ -98,12 +107,38 @@ public class UserService {
         return userRepository.findById(id).stream().map(UserDto::fromEntity).findFirst().orElse(null);
     }
 
-    public String refreshAccessToken(String refreshToken) {
-        Optional<User> user = userRepository.findByRefreshToken(refreshToken);
-        if (user.isPresent()) {
-            String newAccessToken = jwtUtil.generateAccessToken(user.get().getEmail());
-            return newAccessToken;
+    // ACCESS 토큰 재발급 + REFRESH 토큰 교체(rotation). 사용된 REFRESH 토큰은 더 이상 쓸 수 없다.
+    @Transactional
+    public LoginResponseDto refreshAccessToken(String refreshToken) {
+        if (jwtUtil.validateRefreshToken(refreshToken) == null) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+
+        String tokenHash = jwtUtil.hashToken(refreshToken);
+        RefreshSession session = refreshSessionRepository.findByTokenHashWithUser(tokenHash)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+
+        String email = session.getUser().getEmail();
+        String newAccessToken = jwtUtil.generateAccessToken(email);
+        String newRefreshToken = jwtUtil.generateRefreshToken(email);
+
+        if (refreshSessionRepository.rotate(session.getId(), tokenHash,
+                jwtUtil.hashToken(newRefreshToken), refreshTokenExpiresAt()) == 0) {
+            // 같은 REFRESH 토큰으로 동시에 갱신된 경우
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+
+        return new LoginResponseDto(newAccessToken, newRefreshToken);
+    }
+
+    private LocalDateTime refreshTokenExpiresAt() {
+        return LocalDateTime.now().plus(Duration.ofMillis(JwtUtil.REFRESH_TOKEN_EXPIRES_COUNT));
+    }
+
+    private String truncateDeviceName(String deviceName) {
+        if (deviceName == null || deviceName.length() <= DEVICE_NAME_MAX_LENGTH) {
+            return deviceName;
         }
-        throw new RuntimeException("Invalid refresh token");
+        return deviceName.substring(0, DEVICE_NAME_MAX_LENGTH);
     }
 }
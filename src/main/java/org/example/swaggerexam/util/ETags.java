@@ -0,0 +1,25 @@
+package org.example.swaggerexam.util;
+
+// If-None-Match 비교
+public final class ETags {
+
+    private ETags() {
+    }
+
+    // If-None-Match 값(여러 개 / 약한 ETag 포함) 중 하나라도 일치하는지
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
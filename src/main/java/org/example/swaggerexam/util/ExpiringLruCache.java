@@ -0,0 +1,99 @@
+package org.example.swaggerexam.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 항목마다 만료 시각을 가진 크기 제한 LRU 캐시.
+ * 키 해시로 고른 세그먼트(접근 순서 LinkedHashMap) 하나만 잠그므로 서로 다른 세그먼트끼리는 경합하지 않고,
+ * 세그먼트가 가득 차면 가장 오래 쓰이지 않은 항목을 O(1) 로 밀어낸다. (가득 찼다고 전체를 훑거나 캐시를 포기하지 않음)
+ * 만료된 항목은 조회 시점에 제거되고, 나머지는 {@link #evictExpired(long)} 를 주기적으로 호출해 정리한다.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private static final int SEGMENTS = 16; // 2의 거듭제곱
+
+    private final Segment<K, V>[] segments;
+
+    @SuppressWarnings("unchecked")
+    public ExpiringLruCache(int maxSize) {
+        int segmentCapacity = Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+        segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    // 있고 아직 만료되지 않았으면 값, 아니면 null
+    public V get(K key, long now) {
+        Segment<K, V> segment = segmentOf(key);
+        synchronized (segment) {
+            Entry<V> entry = segment.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= now) {
+                segment.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    public void put(K key, V value, long expiresAt, long now) {
+        if (expiresAt <= now) {
+            return;
+        }
+        Segment<K, V> segment = segmentOf(key);
+        synchronized (segment) {
+            segment.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    public void remove(K key) {
+        Segment<K, V> segment = segmentOf(key);
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    public void evictExpired(long now) {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.values().removeIf(entry -> entry.expiresAt <= now);
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment<K, V> segmentOf(K key) {
+        int h = key.hashCode();
+        return segments[(h ^ (h >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true); // 접근 순서
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
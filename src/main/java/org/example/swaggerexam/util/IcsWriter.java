@@ -0,0 +1,117 @@
+package org.example.swaggerexam.util;
+
+import org.example.swaggerexam.dto.CalendarEventDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * iCalendar(RFC 5545) 스트림 작성기.
+ * 줄 끝은 CRLF, 75 옥텟이 넘는 줄은 접어서(다음 줄을 공백으로 시작) 쓰고, 텍스트 값의 \ ; , 줄바꿈은 이스케이프한다.
+ * 시각은 모두 UTC(...Z) 로 쓰므로 VTIMEZONE 은 필요 없다.
+ */
+public class IcsWriter {
+
+    private static final DateTimeFormatter UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer writer;
+    private final String dtStamp = UTC.format(Instant.now());
+
+    public IcsWriter(OutputStream out) {
+        this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    }
+
+    public void begin(String calendarName) throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//meetingProject//Schedules//KO");
+        line("CALSCALE:GREGORIAN");
+        line("X-WR-CALNAME:" + text(calendarName));
+    }
+
+    public void event(CalendarEventDto event) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + uid(event.getScheduleId()));
+        line("DTSTAMP:" + dtStamp);
+        line("DTSTART:" + UTC.format(event.getStartAt()));
+        line("DTEND:" + UTC.format(event.getEndAt()));
+        line("SUMMARY:" + text(event.getTitle()));
+        if (event.getLocation() != null) {
+            line("LOCATION:" + text(event.getLocation()));
+        }
+        if (event.getMeetingTitle() != null) {
+            line("CATEGORIES:" + text(event.getMeetingTitle()));
+        }
+        line("END:VEVENT");
+    }
+
+    // 삭제되었거나 더 이상 참가하지 않는 일정 (증분 동기화용)
+    public void cancelled(Long scheduleId) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + uid(scheduleId));
+        line("DTSTAMP:" + dtStamp);
+        line("STATUS:CANCELLED");
+        line("END:VEVENT");
+    }
+
+    public void end() throws IOException {
+        line("END:VCALENDAR");
+        writer.flush();
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private static String uid(Long scheduleId) {
+        return "schedule-" + scheduleId + "@meetingproject";
+    }
+
+    private static String text(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                    // CRLF 는 \n 하나로
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    // 75 옥텟 단위로 접기 (UTF-8 문자 중간에서 자르지 않음)
+    private void line(String content) throws IOException {
+        int octets = 0;
+        int limit = MAX_LINE_OCTETS;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            boolean pair = Character.isHighSurrogate(c) && i + 1 < content.length();
+            int size = pair ? 4 : c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+            if (octets + size > limit) {
+                writer.write("\r\n ");
+                octets = 0;
+                limit = MAX_LINE_OCTETS - 1; // 이어지는 줄은 앞의 공백 한 칸 포함
+            }
+            writer.write(c);
+            if (pair) {
+                writer.write(content.charAt(++i));
+            }
+            octets += size;
+        }
+        writer.write("\r\n");
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.swaggerexam.util;
+
+import org.example.swaggerexam.jwt.dto.CustomUserDetails;
+
+// 서비스 / 컨트롤러 공통 로그인 사용자 확인
+public final class LoginUsers {
+
+    private LoginUsers() {
+    }
+
+    // JwtAuthorizationFilter 에서 인증된 사용자가 없으면 토큰이 없거나 유효하지 않은 요청
+    public static Long requireId(CustomUserDetails loginUser) {
+        if (loginUser == null) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        }
+        return loginUser.getId();
+    }
+}
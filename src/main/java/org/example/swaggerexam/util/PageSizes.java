@@ -0,0 +1,18 @@
+package org.example.swaggerexam.util;
+
+// 목록 API 공통 페이지 크기 규칙 (0 이하이면 기본값, 최대값을 넘으면 최대값)
+public final class PageSizes {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private PageSizes() {
+    }
+
+    public static int normalize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.swaggerexam.util;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
+import java.util.List;
+
+/**
+ * 일정 시각 변환.
+ * 일정은 시작/종료 instant(start_at, end_at)와 입력 시간대(time_zone)로 저장하고,
+ * 기존 클라이언트를 위해 date/time 문자열도 같은 값의 현지 날짜/시각으로 함께 채운다.
+ */
+public final class ScheduleTimes {
+
+    public static final String DEFAULT_TIME_ZONE = "Asia/Seoul";
+    public static final Duration DEFAULT_DURATION = Duration.ofHours(1);
+
+    private static final DateTimeFormatter LEGACY_TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    // 기존 문자열 컬럼에 들어와 있던 형식들
+    private static final List<DateTimeFormatter> LEGACY_DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("yyyy.MM.dd"),
+            DateTimeFormatter.ofPattern("yyyy/MM/dd"),
+            DateTimeFormatter.ofPattern("yyyyMMdd"));
+    private static final List<DateTimeFormatter> LEGACY_TIME_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_TIME,
+            DateTimeFormatter.ofPattern("H:mm"),
+            DateTimeFormatter.ofPattern("HHmm"));
+
+    private ScheduleTimes() {
+    }
+
+    public record Resolved(Instant startAt, Instant endAt, String timeZone, String date, String time) {
+    }
+
+    /**
+     * 요청 값으로 시작/종료 시각 결정. startAt 이 없으면 기존 date + time 문자열을 해석한다.
+     *
+     * @throws IllegalArgumentException 시각을 해석할 수 없거나 종료가 시작보다 빠른 경우
+     */
+    public static Resolved resolve(LocalDateTime startAt, LocalDateTime endAt, String timeZone,
+                                   String legacyDate, String legacyTime) {
+        ZoneId zone = zoneOf(timeZone);
+
+        LocalDateTime start = startAt != null ? startAt : parseLegacy(legacyDate, legacyTime);
+        if (start == null) {
+            throw new IllegalArgumentException("일정 시작 시각(startAt 또는 date/time)을 해석할 수 없습니다.");
+        }
+
+        ZonedDateTime zonedStart = start.atZone(zone);
+        ZonedDateTime zonedEnd = endAt != null ? endAt.atZone(zone) : zonedStart.plus(DEFAULT_DURATION);
+        if (!zonedEnd.isAfter(zonedStart)) {
+            throw new IllegalArgumentException("종료 시각은 시작 시각 이후여야 합니다.");
+        }
+
+        return new Resolved(zonedStart.toInstant(), zonedEnd.toInstant(), zone.getId(),
+                start.toLocalDate().toString(), start.toLocalTime().format(LEGACY_TIME_FORMAT));
+    }
+
+    public static ZoneId zoneOf(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            return ZoneId.of(DEFAULT_TIME_ZONE);
+        }
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("알 수 없는 시간대입니다: " + timeZone);
+        }
+    }
+
+    // 해석할 수 없으면 null
+    public static LocalDateTime parseLegacy(String date, String time) {
+        if (date == null || time == null) {
+            return null;
+        }
+        LocalDate localDate = parse(date.trim(), LEGACY_DATE_FORMATS, LocalDate::from);
+        LocalTime localTime = parse(time.trim(), LEGACY_TIME_FORMATS, LocalTime::from);
+        return localDate == null || localTime == null ? null : LocalDateTime.of(localDate, localTime);
+    }
+
+    private static <T> T parse(String text, List<DateTimeFormatter> formats,
+                               TemporalQuery<T> query) {
+        for (DateTimeFormatter format : formats) {
+            try {
+                return format.parse(text, query);
+            } catch (DateTimeParseException e) {
+                // 다음 형식 시도
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,21 @@
+-- 테이블 기반 id 생성기(id_sequences) 초기값.
+-- 기존 IDENTITY 로 만들어진 id 와 겹치지 않도록 MAX(id) + 할당 크기(50) 이상으로만 올린다. (이미 더 크면 그대로)
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'users', COALESCE(MAX(id), 0) + 51 FROM users
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'meetings', COALESCE(MAX(id), 0) + 51 FROM meetings
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'meeting_participants', COALESCE(MAX(id), 0) + 51 FROM meeting_participants
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'schedules', COALESCE(MAX(id), 0) + 51 FROM schedules
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'schedule_participants', COALESCE(MAX(id), 0) + 51 FROM schedule_participants
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
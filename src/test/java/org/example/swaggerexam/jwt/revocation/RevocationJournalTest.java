@@ -0,0 +1,108 @@
+package org.example.swaggerexam.jwt.revocation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 무효화 저널: 기록 순서 재생, 재시작 후 복원, 만료 레코드 정리(compact), 가득 찼을 때 정리/확장 확인
+class RevocationJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysLiveRecordsInOrderAfterReopen() {
+        long live = System.currentTimeMillis() + 60_000L;
+        RevocationJournal journal = open(16);
+        journal.append(1L, 11L, live);
+        journal.append(2L, 22L, System.currentTimeMillis() - 1L);
+        journal.append(3L, 33L, live + 1L);
+        journal.close();
+
+        RevocationJournal reopened = open(16);
+
+        assertThat(reopened.size()).isEqualTo(3);
+        assertThat(replay(reopened)).containsExactly(new Record(1L, 11L, live), new Record(3L, 33L, live + 1L));
+    }
+
+    @Test
+    void compactDropsExpiredRecordsAndKeepsOrder() {
+        long live = System.currentTimeMillis() + 60_000L;
+        long expired = System.currentTimeMillis() - 1L;
+        RevocationJournal journal = open(16);
+        journal.append(1L, 11L, expired);
+        journal.append(2L, 22L, live);
+        journal.append(3L, 33L, expired);
+        journal.append(4L, 44L, live);
+
+        journal.compact();
+
+        assertThat(journal.size()).isEqualTo(2);
+        assertThat(replay(journal)).containsExactly(new Record(2L, 22L, live), new Record(4L, 44L, live));
+
+        // 정리 후 지워진 뒤쪽 자리에 이어서 기록되고, 재시작해도 끝 위치가 같다
+        journal.append(5L, 55L, live);
+        journal.close();
+        RevocationJournal reopened = open(16);
+        assertThat(reopened.size()).isEqualTo(3);
+        assertThat(replay(reopened)).extracting(Record::primary).containsExactly(2L, 4L, 5L);
+    }
+
+    @Test
+    void fullJournalCompactsExpiredRecordsBeforeGrowing() {
+        long live = System.currentTimeMillis() + 60_000L;
+        long expired = System.currentTimeMillis() - 1L;
+        RevocationJournal journal = open(2);
+        journal.append(1L, 11L, expired);
+        journal.append(2L, 22L, expired);
+
+        journal.append(3L, 33L, live);
+
+        assertThat(journal.size()).isEqualTo(1);
+        assertThat(replay(journal)).containsExactly(new Record(3L, 33L, live));
+    }
+
+    @Test
+    void fullJournalGrowsWhenEveryRecordIsLive() {
+        long live = System.currentTimeMillis() + 60_000L;
+        RevocationJournal journal = open(2);
+        for (long i = 1; i <= 5; i++) {
+            journal.append(i, i * 11, live);
+        }
+        journal.close();
+
+        RevocationJournal reopened = open(2);
+
+        assertThat(reopened.size()).isEqualTo(5);
+        assertThat(replay(reopened)).extracting(Record::primary).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void disabledJournalRecordsNothing() {
+        RevocationJournal journal = new RevocationJournal(false, dir.resolve("unused.journal").toString(), 16);
+
+        journal.append(1L, 11L, System.currentTimeMillis() + 60_000L);
+
+        assertThat(journal.size()).isZero();
+        assertThat(replay(journal)).isEmpty();
+        assertThat(dir.resolve("unused.journal")).doesNotExist();
+    }
+
+    private RevocationJournal open(int capacity) {
+        return new RevocationJournal(true, dir.resolve("revocations.journal").toString(), capacity);
+    }
+
+    private static List<Record> replay(RevocationJournal journal) {
+        List<Record> records = new ArrayList<>();
+        journal.replay((primary, secondary, expiresAt) -> records.add(new Record(primary, secondary, expiresAt)));
+        return records;
+    }
+
+    private record Record(long primary, long secondary, long expiresAt) {
+    }
+}
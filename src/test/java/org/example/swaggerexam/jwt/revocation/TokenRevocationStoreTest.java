@@ -0,0 +1,95 @@
+package org.example.swaggerexam.jwt.revocation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 무효화 저장소: 블룸 필터 + 지문(primary, secondary) 조회, 만료, 저널 복원 확인
+class TokenRevocationStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void revokedTokenIsRejectedAndOthersAreNot() {
+        TokenRevocationStore store = new TokenRevocationStore(disabledJournal());
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+
+        store.revoke("token-a", expiresAt);
+
+        assertThat(store.isRevoked("token-a")).isTrue();
+        assertThat(store.isRevoked("token-b")).isFalse();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void samePrimaryWithDifferentSecondaryIsNotRevoked() {
+        TokenRevocationStore store = new TokenRevocationStore(disabledJournal());
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        long primary = TokenFingerprint.primary("token-a");
+        long secondary = TokenFingerprint.secondary("token-a");
+
+        // primary 만 같은 (충돌한) 다른 토큰을 무효화해도 token-a 는 유효하고, 두 항목이 서로 덮어쓰지 않는다
+        store.revoke(primary, secondary + 1, expiresAt);
+        assertThat(store.isRevoked("token-a")).isFalse();
+
+        store.revoke(primary, secondary, expiresAt);
+        assertThat(store.isRevoked("token-a")).isTrue();
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNotStored() {
+        TokenRevocationStore store = new TokenRevocationStore(disabledJournal());
+
+        store.revoke("token-a", System.currentTimeMillis() - 1L);
+
+        assertThat(store.isRevoked("token-a")).isFalse();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void revocationEndsAtTokenExpiry() throws InterruptedException {
+        TokenRevocationStore store = new TokenRevocationStore(disabledJournal());
+
+        store.revoke("token-a", System.currentTimeMillis() + 50L);
+        assertThat(store.isRevoked("token-a")).isTrue();
+
+        Thread.sleep(100L);
+        assertThat(store.isRevoked("token-a")).isFalse();
+    }
+
+    @Test
+    void sweepKeepsLiveRevocations() {
+        TokenRevocationStore store = new TokenRevocationStore(disabledJournal());
+        store.revoke("token-a", System.currentTimeMillis() + 60_000L);
+
+        store.sweep();
+
+        assertThat(store.isRevoked("token-a")).isTrue();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void revocationsSurviveRestartThroughTheJournal() {
+        String path = dir.resolve("revocations.journal").toString();
+        RevocationJournal journal = new RevocationJournal(true, path, 16);
+        TokenRevocationStore store = new TokenRevocationStore(journal);
+        store.restore();
+        store.revoke("token-a", System.currentTimeMillis() + 60_000L);
+        journal.close();
+
+        TokenRevocationStore restarted = new TokenRevocationStore(new RevocationJournal(true, path, 16));
+        restarted.restore();
+
+        assertThat(restarted.isRevoked("token-a")).isTrue();
+        assertThat(restarted.isRevoked("token-b")).isFalse();
+    }
+
+    private static RevocationJournal disabledJournal() {
+        return new RevocationJournal(false, "unused", 16);
+    }
+}
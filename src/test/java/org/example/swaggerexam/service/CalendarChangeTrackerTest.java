@@ -0,0 +1,114 @@
+package org.example.swaggerexam.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 캘린더 변경 기록: ETag / 동기화 토큰, 증분 변경 목록, 기록이 잘리거나 epoch 가 바뀌면 전체 동기화로 돌아가는지 확인
+class CalendarChangeTrackerTest {
+
+    private static final String FEED = CalendarChangeTracker.meetingFeed(1L);
+
+    @Test
+    void untrackedFeedHasStableEtagAndEmptyChanges() {
+        CalendarChangeTracker tracker = new CalendarChangeTracker(100, 10);
+
+        assertThat(tracker.isTracked(FEED)).isFalse();
+        assertThat(tracker.etag(FEED)).isEqualTo(tracker.etag(FEED));
+        assertThat(tracker.changesSince(FEED, tracker.syncToken(FEED))).contains(Map.of());
+    }
+
+    @Test
+    void changesSinceReturnsLastChangePerSchedule() {
+        CalendarChangeTracker tracker = new CalendarChangeTracker(100, 10);
+        String token = tracker.syncToken(FEED);
+        String etag = tracker.etag(FEED);
+
+        tracker.changed(FEED, 10L);
+        tracker.changed(FEED, 11L);
+        tracker.removed(FEED, 10L);
+
+        assertThat(tracker.isTracked(FEED)).isTrue();
+        assertThat(tracker.etag(FEED)).isNotEqualTo(etag);
+        assertThat(tracker.changesSince(FEED, token).orElseThrow())
+                .containsExactly(Map.entry(11L, false), Map.entry(10L, true));
+        assertThat(tracker.changesSince(FEED, tracker.syncToken(FEED))).contains(Map.of());
+    }
+
+    @Test
+    void otherFeedsAreUnaffected() {
+        CalendarChangeTracker tracker = new CalendarChangeTracker(100, 10);
+        String userFeed = CalendarChangeTracker.userFeed(1L);
+        String etag = tracker.etag(userFeed);
+
+        tracker.changed(FEED, 10L);
+
+        assertThat(tracker.etag(userFeed)).isEqualTo(etag);
+    }
+
+    @Test
+    void trimmedHistoryFallsBackToFullSync() {
+        CalendarChangeTracker tracker = new CalendarChangeTracker(100, 2);
+        String token = tracker.syncToken(FEED);
+
+        tracker.changed(FEED, 10L);
+        String afterFirst = tracker.syncToken(FEED);
+        tracker.changed(FEED, 11L);
+        tracker.changed(FEED, 12L);
+
+        assertThat(tracker.changesSince(FEED, token)).isEmpty();
+        assertThat(tracker.changesSince(FEED, afterFirst).orElseThrow()).containsOnlyKeys(11L, 12L);
+    }
+
+    @Test
+    void resetInvalidatesOlderTokens() {
+        CalendarChangeTracker tracker = new CalendarChangeTracker(100, 10);
+        tracker.changed(FEED, 10L);
+        String token = tracker.syncToken(FEED);
+
+        tracker.reset(List.of(FEED));
+
+        assertThat(tracker.changesSince(FEED, token)).isEmpty();
+        assertThat(tracker.changesSince(FEED, tracker.syncToken(FEED))).contains(Map.of());
+    }
+
+    @Test
+    void forgottenFeedIsNoLongerTracked() {
+        CalendarChangeTracker tracker = new CalendarChangeTracker(100, 10);
+        tracker.changed(FEED, 10L);
+
+        tracker.forget(FEED);
+
+        assertThat(tracker.isTracked(FEED)).isFalse();
+    }
+
+    @Test
+    void tokensFromAnotherEpochOrMalformedFallBackToFullSync() {
+        CalendarChangeTracker tracker = new CalendarChangeTracker(100, 10);
+        String foreign = new CalendarChangeTracker(100, 10).syncToken(FEED);
+
+        assertThat(tracker.changesSince(FEED, foreign)).isEmpty();
+        assertThat(tracker.changesSince(FEED, null)).isEmpty();
+        assertThat(tracker.changesSince(FEED, "garbage")).isEmpty();
+        assertThat(tracker.changesSince(FEED, tracker.syncToken(FEED) + "x")).isEmpty();
+    }
+
+    @Test
+    void exceedingMaxFeedsStartsANewEpoch() {
+        CalendarChangeTracker tracker = new CalendarChangeTracker(2, 10);
+        tracker.changed(CalendarChangeTracker.meetingFeed(1L), 10L);
+        tracker.changed(CalendarChangeTracker.meetingFeed(2L), 11L);
+        String token = tracker.syncToken(CalendarChangeTracker.meetingFeed(1L));
+        String etag = tracker.etag(CalendarChangeTracker.meetingFeed(2L));
+
+        tracker.changed(CalendarChangeTracker.meetingFeed(3L), 12L);
+
+        // 기록을 비우면서 version 이 0 으로 돌아가도 이전 ETag / 토큰과 겹치지 않는다
+        assertThat(tracker.isTracked(CalendarChangeTracker.meetingFeed(1L))).isFalse();
+        assertThat(tracker.changesSince(CalendarChangeTracker.meetingFeed(1L), token)).isEmpty();
+        assertThat(tracker.etag(CalendarChangeTracker.meetingFeed(2L))).isNotEqualTo(etag);
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.swaggerexam.service;
+
+import org.example.swaggerexam.domain.Meeting;
+import org.example.swaggerexam.domain.User;
+import org.example.swaggerexam.jwt.dto.CustomUserDetails;
+import org.example.swaggerexam.repository.MeetingParticipantRepository;
+import org.example.swaggerexam.repository.MeetingRepository;
+import org.example.swaggerexam.repository.MeetingWaitlistRepository;
+import org.example.swaggerexam.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한 미팅에 동시에 참가 요청이 몰려도 정원을 넘지 않고 중복 참가가 생기지 않는지 확인 (초과 인원은 대기열로)
+@SpringBootTest
+class MeetingJoinConcurrencyTest {
+
+    private static final int MAX_PARTICIPANTS = 10;
+    private static final int USERS = 100;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingParticipantRepository meetingParticipantRepository;
+
+    @Autowired
+    private MeetingWaitlistRepository meetingWaitlistRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private Meeting meeting;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setEmail(prefix + "-join-" + i + "@test.com");
+            user.setPassword("password");
+            users.add(userRepository.save(user));
+        }
+
+        meeting = new Meeting();
+        meeting.setTitle("동시 참가 테스트");
+        meeting.setMaxParticipants(MAX_PARTICIPANTS);
+        meeting.setOwner(users.get(0));
+        meeting = meetingRepository.save(meeting);
+    }
+
+    @AfterEach
+    void tearDown() {
+        meetingWaitlistRepository.deleteAllInBatch(meetingWaitlistRepository.findQueue(meeting.getId(), Pageable.unpaged()));
+        meetingParticipantRepository.deleteAll(meetingParticipantRepository.findByMeetingId(meeting.getId()));
+        meetingRepository.deleteById(meeting.getId());
+        userRepository.deleteAll(users);
+        users.clear();
+    }
+
+    @Test
+    void concurrentJoinsNeverExceedMaxParticipants() throws InterruptedException {
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger waitlisted = new AtomicInteger();
+
+        runConcurrently(users.size(), i -> {
+            String result = meetingService.meetingJoin(meeting.getId(), principal(users.get(i)));
+            if ("참가 성공".equals(result)) {
+                joined.incrementAndGet();
+            } else {
+                waitlisted.incrementAndGet();
+            }
+        });
+
+        assertThat(joined.get()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(waitlisted.get()).isEqualTo(USERS - MAX_PARTICIPANTS);
+        assertThat(meetingWaitlistRepository.findQueue(meeting.getId(), Pageable.unpaged()))
+                .hasSize(USERS - MAX_PARTICIPANTS);
+        assertThat(meetingParticipantRepository.findByMeetingId(meeting.getId())).hasSize(MAX_PARTICIPANTS);
+        assertThat(meetingRepository.findById(meeting.getId()).orElseThrow().getParticipantCount())
+                .isEqualTo(MAX_PARTICIPANTS);
+    }
+
+    @Test
+    void concurrentDuplicateJoinsCreateSingleParticipant() throws InterruptedException {
+        CustomUserDetails sameUser = principal(users.get(1));
+        AtomicInteger joined = new AtomicInteger();
+
+        runConcurrently(THREADS, i -> {
+            try {
+                meetingService.meetingJoin(meeting.getId(), sameUser);
+                joined.incrementAndGet();
+            } catch (IllegalStateException e) {
+                // 이미 참가한 미팅
+            }
+        });
+
+        assertThat(joined.get()).isEqualTo(1);
+        assertThat(meetingParticipantRepository.findByMeetingId(meeting.getId())).hasSize(1);
+        assertThat(meetingRepository.findById(meeting.getId()).orElseThrow().getParticipantCount()).isEqualTo(1);
+    }
+
+    private void runConcurrently(int tasks, IntTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    task.run(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+
+    private static CustomUserDetails principal(User user) {
+        return new CustomUserDetails(user.getId(), user.getEmail(), "", List.of());
+    }
+
+    private interface IntTask {
+        void run(int index);
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.swaggerexam.service;
+
+import org.example.swaggerexam.repository.MeetingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 모임 검색 색인: bigram 분해, 모든 n-gram 포함 조건, 제목 가중치 순위, 갱신/삭제, 페이지 구간 확인
+class MeetingSearchIndexTest {
+
+    private MeetingSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MeetingSearchIndex(mock(MeetingRepository.class));
+    }
+
+    @Test
+    void gramsSplitWordsIntoBigramsAndNormalize() {
+        assertThat(MeetingSearchIndex.grams("주말 등산")).containsOnlyKeys("주말", "등산");
+        assertThat(MeetingSearchIndex.grams("Ａbc, 가")).containsOnlyKeys("ab", "bc", "가");
+        assertThat(MeetingSearchIndex.grams("abab")).containsEntry("ab", 2).containsEntry("ba", 1);
+        assertThat(MeetingSearchIndex.grams(" \t")).isEmpty();
+        assertThat(MeetingSearchIndex.grams(null)).isEmpty();
+    }
+
+    @Test
+    void findsPartialKoreanMatchesAndRequiresEveryGram() {
+        index.update(1L, "주말등산모임", null);
+        index.update(2L, "주말 독서 모임", null);
+
+        assertThat(index.search("등산", 0, 10)).containsExactly(1L);
+        assertThat(index.search("주말", 0, 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("주말 등산", 0, 10)).containsExactly(1L);
+        assertThat(index.search("등산 독서", 0, 10)).isEmpty();
+        assertThat(index.search("낚시", 0, 10)).isEmpty();
+        assertThat(index.search("  ", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void titleMatchesRankAboveDescriptionMatches() {
+        index.update(1L, "등산 모임", null);
+        index.update(2L, "독서 모임", "등산 후 독서");
+        index.update(3L, "산책", "가벼운 등산");
+
+        // 제목 일치가 더 최근(id 큰) 설명 일치보다 앞선다. 설명 일치끼리는 점수가 같으므로 최근 순
+        assertThat(index.search("등산", 0, 10)).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void equalScoresPreferNewerMeetings() {
+        index.update(1L, "등산", null);
+        index.update(5L, "등산", null);
+        index.update(3L, "등산", null);
+
+        assertThat(index.search("등산", 0, 10)).containsExactly(5L, 3L, 1L);
+    }
+
+    @Test
+    void updateReplacesOldTextAndRemoveDropsTheMeeting() {
+        index.update(1L, "등산 모임", null);
+        index.update(1L, "독서 모임", null);
+
+        assertThat(index.search("등산", 0, 10)).isEmpty();
+        assertThat(index.search("독서", 0, 10)).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("독서", 0, 10)).isEmpty();
+        assertThat(index.search("모임", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void returnsTheRequestedWindow() {
+        for (long id = 1; id <= 5; id++) {
+            index.update(id, "등산", null);
+        }
+
+        assertThat(index.search("등산", 0, 2)).containsExactly(5L, 4L);
+        assertThat(index.search("등산", 2, 2)).containsExactly(3L, 2L);
+        assertThat(index.search("등산", 4, 2)).containsExactly(1L);
+        assertThat(index.search("등산", 10, 2)).isEmpty();
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.swaggerexam.service;
+
+import org.example.swaggerexam.repository.ScheduleParticipantRepository;
+import org.example.swaggerexam.repository.ScheduleParticipantRepository.ScheduleInterval;
+import org.example.swaggerexam.service.ScheduleConflictIndex.Conflict;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 일정 겹침 인덱스: 경계(끝 == 시작), 포함/긴 구간, 변경 반영, LRU 밀어내기와 다시 읽기 확인 (DB 없이 저장소는 mock)
+class ScheduleConflictIndexTest {
+
+    private static final Long USER = 1L;
+
+    private ScheduleParticipantRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ScheduleParticipantRepository.class);
+    }
+
+    @Test
+    void touchingIntervalsDoNotConflict() {
+        when(repository.findIntervalsByUserId(USER)).thenReturn(List.of(row(1L, "10:00", "11:00")));
+        ScheduleConflictIndex index = index(10);
+
+        assertThat(index.findOverlapping(USER, 2L, at("11:00"), at("12:00"))).isEmpty();
+        assertThat(index.findOverlapping(USER, 2L, at("09:00"), at("10:00"))).isEmpty();
+        assertThat(index.findOverlapping(USER, 2L, at("10:59"), at("12:00"))).containsExactly(1L);
+
+        index.joined(USER, 2L, at("11:00"), at("12:00"));
+        assertThat(index.findConflicts(USER)).isEmpty();
+    }
+
+    @Test
+    void nestedIntervalsConflictWithTheEnclosingOne() {
+        when(repository.findIntervalsByUserId(USER)).thenReturn(List.of(
+                row(1L, "09:00", "17:00"),
+                row(2L, "10:00", "11:00"),
+                row(3L, "12:00", "13:00")));
+        ScheduleConflictIndex index = index(10);
+
+        List<Conflict> conflicts = index.findConflicts(USER);
+        assertThat(conflicts).extracting(c -> c.first().scheduleId(), c -> c.second().scheduleId())
+                .containsExactly(tuple(1L, 2L), tuple(1L, 3L));
+
+        // 짧은 구간들 뒤쪽이라도 먼저 시작한 긴 구간은 찾아야 한다
+        assertThat(index.findOverlapping(USER, 9L, at("16:00"), at("16:30"))).containsExactly(1L);
+        assertThat(index.findOverlapping(USER, 9L, at("10:30"), at("12:30"))).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void veryLongIntervalIsFoundFromFarAway() {
+        when(repository.findIntervalsByUserId(USER)).thenReturn(List.of(
+                new Row(1L, Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-03-01T00:00:00Z")),
+                row(2L, "10:00", "10:30")));
+        ScheduleConflictIndex index = index(10);
+
+        Instant start = Instant.parse("2026-02-20T09:00:00Z");
+        assertThat(index.findOverlapping(USER, 9L, start, start.plusSeconds(600))).containsExactly(1L);
+    }
+
+    @Test
+    void ownScheduleIsExcluded() {
+        when(repository.findIntervalsByUserId(USER)).thenReturn(List.of(row(1L, "10:00", "11:00")));
+        ScheduleConflictIndex index = index(10);
+
+        assertThat(index.findOverlapping(USER, 1L, at("10:00"), at("11:30"))).isEmpty();
+    }
+
+    @Test
+    void committedChangesUpdateCachedUser() {
+        when(repository.findIntervalsByUserId(USER)).thenReturn(List.of(
+                row(1L, "10:00", "11:00"),
+                row(2L, "13:00", "14:00")));
+        ScheduleConflictIndex index = index(10);
+        assertThat(index.findOverlapping(USER, 9L, at("10:30"), at("13:30"))).containsExactlyInAnyOrder(1L, 2L);
+
+        // 트랜잭션 밖에서 호출하면 바로 반영된다
+        index.left(USER, 1L);
+        assertThat(index.findOverlapping(USER, 9L, at("10:30"), at("13:30"))).containsExactly(2L);
+
+        index.rescheduled(2L, at("15:00"), at("16:00"));
+        assertThat(index.findOverlapping(USER, 9L, at("10:30"), at("13:30"))).isEmpty();
+        assertThat(index.findOverlapping(USER, 9L, at("15:30"), at("17:00"))).containsExactly(2L);
+
+        index.joined(USER, 3L, at("15:45"), at("18:00"));
+        assertThat(index.findConflicts(USER)).hasSize(1);
+
+        index.removed(List.of(2L, 3L));
+        assertThat(index.findOverlapping(USER, 9L, at("00:00"), at("23:00"))).isEmpty();
+
+        verify(repository, times(1)).findIntervalsByUserId(USER);
+    }
+
+    @Test
+    void joinWithoutTimesDropsTheUserAndReloads() {
+        when(repository.findIntervalsByUserId(USER)).thenReturn(List.of(row(1L, "10:00", "11:00")));
+        ScheduleConflictIndex index = index(10);
+        index.findConflicts(USER);
+
+        index.joined(USER, 2L, null, null);
+        index.findConflicts(USER);
+
+        verify(repository, times(2)).findIntervalsByUserId(USER);
+    }
+
+    @Test
+    void leastRecentlyUsedUserIsEvictedAndReloaded() {
+        when(repository.findIntervalsByUserId(1L)).thenReturn(List.of(row(1L, "10:00", "11:00")));
+        when(repository.findIntervalsByUserId(2L)).thenReturn(List.of(row(2L, "10:00", "11:00")));
+        when(repository.findIntervalsByUserId(3L)).thenReturn(List.of(row(3L, "10:00", "11:00")));
+        ScheduleConflictIndex index = index(2);
+
+        index.findConflicts(1L);
+        index.findConflicts(2L);
+        index.findConflicts(1L); // 1 이 최근 사용 -> 3 을 넣으면 2 가 밀려난다
+        index.findConflicts(3L);
+        index.findConflicts(1L);
+        assertThat(index.findOverlapping(2L, 9L, at("10:00"), at("10:30"))).containsExactly(2L);
+
+        verify(repository, times(1)).findIntervalsByUserId(1L);
+        verify(repository, times(2)).findIntervalsByUserId(2L);
+        verify(repository, times(1)).findIntervalsByUserId(3L);
+    }
+
+    @Test
+    void loadRacingWithACommittedChangeIsNotCached() {
+        ScheduleConflictIndex[] holder = new ScheduleConflictIndex[1];
+        when(repository.findIntervalsByUserId(USER)).thenAnswer(invocation -> {
+            // 읽는 도중 다른 요청의 참가가 커밋된 상황
+            holder[0].joined(USER, 2L, at("10:30"), at("11:30"));
+            return List.of(row(1L, "10:00", "11:00"));
+        });
+        holder[0] = index(10);
+
+        assertThat(holder[0].findOverlapping(USER, 9L, at("10:00"), at("10:15"))).containsExactly(1L);
+        holder[0].findConflicts(USER);
+
+        verify(repository, times(2)).findIntervalsByUserId(USER);
+    }
+
+    private ScheduleConflictIndex index(int maxUsers) {
+        return new ScheduleConflictIndex(repository, mock(PlatformTransactionManager.class), maxUsers);
+    }
+
+    private static Instant at(String time) {
+        return Instant.parse("2026-01-01T" + time + ":00Z");
+    }
+
+    private static Row row(Long scheduleId, String start, String end) {
+        return new Row(scheduleId, at(start), at(end));
+    }
+
+    private record Row(Long scheduleId, Instant startAt, Instant endAt) implements ScheduleInterval {
+        @Override
+        public Long getScheduleId() {
+            return scheduleId;
+        }
+
+        @Override
+        public Instant getStartAt() {
+            return startAt;
+        }
+
+        @Override
+        public Instant getEndAt() {
+            return endAt;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.swaggerexam.util;
+
+import org.example.swaggerexam.dto.CalendarEventDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ICS 작성기: 75 옥텟 접기(다바이트 문자 / 서로게이트 쌍을 자르지 않음), CRLF, 텍스트 이스케이프 확인
+class IcsWriterTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T10:00:00Z");
+    private static final Instant END = Instant.parse("2026-01-01T11:00:00Z");
+
+    @Test
+    void writesCrlfLinesAndUtcTimes() throws IOException {
+        String ics = write(new CalendarEventDto(7L, "회의", null, START, END, null));
+
+        assertThat(ics).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n");
+        assertThat(ics.replace("\r\n", "")).doesNotContain("\n").doesNotContain("\r");
+        assertThat(unfold(ics)).contains(
+                "UID:schedule-7@meetingproject",
+                "DTSTART:20260101T100000Z",
+                "DTEND:20260101T110000Z",
+                "SUMMARY:회의");
+        assertThat(unfold(ics)).noneMatch(line -> line.startsWith("LOCATION:") || line.startsWith("CATEGORIES:"));
+    }
+
+    @Test
+    void escapesTextValues() throws IOException {
+        String ics = write(new CalendarEventDto(1L, "a,b;c\\d\ne\r\nf", "3층, 회의실", START, END, null));
+
+        assertThat(unfold(ics)).contains("SUMMARY:a\\,b\\;c\\\\d\\ne\\nf", "LOCATION:3층\\, 회의실");
+    }
+
+    @Test
+    void foldsLongAsciiLinesAt75Octets() throws IOException {
+        String title = "x".repeat(200);
+        byte[] ics = writeBytes(new CalendarEventDto(1L, title, null, START, END, null));
+
+        assertThat(physicalLines(ics)).allMatch(line -> line.length <= 75);
+        assertThat(unfold(new String(ics, StandardCharsets.UTF_8))).contains("SUMMARY:" + title);
+    }
+
+    @Test
+    void neverSplitsMultiByteCharactersOrSurrogatePairs() throws IOException {
+        // 3바이트(한글), 4바이트(이모지, 서로게이트 쌍), 2바이트 문자를 섞어 경계 위치를 여러 가지로 만든다
+        for (int prefix = 0; prefix < 4; prefix++) {
+            String title = "a".repeat(prefix) + "가나다😀é".repeat(30);
+            byte[] ics = writeBytes(new CalendarEventDto(1L, title, null, START, END, null));
+
+            for (byte[] line : physicalLines(ics)) {
+                assertThat(line.length).isLessThanOrEqualTo(75);
+                assertThat(isValidUtf8(line)).as("접힌 줄은 각각 올바른 UTF-8 이어야 함").isTrue();
+            }
+            assertThat(unfold(new String(ics, StandardCharsets.UTF_8))).contains("SUMMARY:" + title);
+        }
+    }
+
+    @Test
+    void writesCancelledEvent() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IcsWriter writer = new IcsWriter(out);
+        writer.begin("피드");
+        writer.cancelled(9L);
+        writer.end();
+
+        assertThat(unfold(out.toString(StandardCharsets.UTF_8)))
+                .contains("UID:schedule-9@meetingproject", "STATUS:CANCELLED", "X-WR-CALNAME:피드");
+    }
+
+    private static String write(CalendarEventDto event) throws IOException {
+        return new String(writeBytes(event), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] writeBytes(CalendarEventDto event) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IcsWriter writer = new IcsWriter(out);
+        writer.begin("테스트 캘린더");
+        writer.event(event);
+        writer.end();
+        return out.toByteArray();
+    }
+
+    // 접힌 줄(CRLF + 공백)을 이어 붙인 논리적 줄 목록
+    private static List<String> unfold(String ics) {
+        return Arrays.asList(ics.replace("\r\n ", "").split("\r\n"));
+    }
+
+    // CRLF 로 나눈 물리적 줄 (바이트)
+    private static List<byte[]> physicalLines(byte[] ics) {
+        List<byte[]> lines = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i + 1 < ics.length; i++) {
+            if (ics[i] == '\r' && ics[i + 1] == '\n') {
+                lines.add(Arrays.copyOfRange(ics, start, i));
+                start = i + 2;
+                i++;
+            }
+        }
+        return lines;
+    }
+
+    private static boolean isValidUtf8(byte[] bytes) {
+        try {
+            StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(bytes));
+            return true;
+        } catch (CharacterCodingException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.swaggerexam.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 일정 시각 변환: 기존 date/time 문자열 형식 해석, 시간대 적용, 기본 길이, 잘못된 값 거절 확인
+class ScheduleTimesTest {
+
+    private static final LocalDateTime NINE_THIRTY = LocalDateTime.of(2026, 3, 5, 9, 30);
+
+    @Test
+    void parsesEveryLegacyDateFormat() {
+        assertThat(ScheduleTimes.parseLegacy("2026-03-05", "09:30")).isEqualTo(NINE_THIRTY);
+        assertThat(ScheduleTimes.parseLegacy("2026.03.05", "09:30")).isEqualTo(NINE_THIRTY);
+        assertThat(ScheduleTimes.parseLegacy("2026/03/05", "09:30")).isEqualTo(NINE_THIRTY);
+        assertThat(ScheduleTimes.parseLegacy("20260305", "09:30")).isEqualTo(NINE_THIRTY);
+        assertThat(ScheduleTimes.parseLegacy(" 2026-03-05 ", " 09:30 ")).isEqualTo(NINE_THIRTY);
+    }
+
+    @Test
+    void parsesEveryLegacyTimeFormat() {
+        assertThat(ScheduleTimes.parseLegacy("2026-03-05", "9:30")).isEqualTo(NINE_THIRTY);
+        assertThat(ScheduleTimes.parseLegacy("2026-03-05", "0930")).isEqualTo(NINE_THIRTY);
+        assertThat(ScheduleTimes.parseLegacy("2026-03-05", "09:30:15")).isEqualTo(NINE_THIRTY.withSecond(15));
+    }
+
+    @Test
+    void unparsableLegacyValuesAreNull() {
+        assertThat(ScheduleTimes.parseLegacy(null, "09:30")).isNull();
+        assertThat(ScheduleTimes.parseLegacy("2026-03-05", null)).isNull();
+        assertThat(ScheduleTimes.parseLegacy("다음주 화요일", "09:30")).isNull();
+        assertThat(ScheduleTimes.parseLegacy("2026-02-30", "09:30")).isNull();
+        assertThat(ScheduleTimes.parseLegacy("2026-03-05", "25:00")).isNull();
+        assertThat(ScheduleTimes.parseLegacy("2026-03-05", "오전 9시")).isNull();
+    }
+
+    @Test
+    void resolvesInTheDefaultZoneWithDefaultDuration() {
+        ScheduleTimes.Resolved resolved = ScheduleTimes.resolve(NINE_THIRTY, null, null, null, null);
+
+        assertThat(resolved.startAt()).isEqualTo(Instant.parse("2026-03-05T00:30:00Z"));
+        assertThat(resolved.endAt()).isEqualTo(Instant.parse("2026-03-05T01:30:00Z"));
+        assertThat(resolved.timeZone()).isEqualTo(ScheduleTimes.DEFAULT_TIME_ZONE);
+        assertThat(resolved.date()).isEqualTo("2026-03-05");
+        assertThat(resolved.time()).isEqualTo("09:30");
+    }
+
+    @Test
+    void resolvesLegacyStringsInTheGivenZone() {
+        ScheduleTimes.Resolved resolved = ScheduleTimes.resolve(null, LocalDateTime.of(2026, 7, 1, 11, 0),
+                "America/New_York", "2026.07.01", "0930");
+
+        // 7월 뉴욕은 서머타임(UTC-4)
+        assertThat(resolved.startAt()).isEqualTo(Instant.parse("2026-07-01T13:30:00Z"));
+        assertThat(resolved.endAt()).isEqualTo(Instant.parse("2026-07-01T15:00:00Z"));
+        assertThat(resolved.time()).isEqualTo("09:30");
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        assertThatThrownBy(() -> ScheduleTimes.resolve(null, null, null, "언젠가", "09:30"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScheduleTimes.resolve(NINE_THIRTY, NINE_THIRTY, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScheduleTimes.resolve(NINE_THIRTY, null, "Mars/Olympus", null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}